@@ -1,6 +1,9 @@
 import battleship.BattleshipModel;
 import battleship.BattleshipModelImpl;
 import battleship.CellState;
+import battleship.Fleet;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 /**
@@ -10,10 +13,12 @@ public class BattleMain {
   /**
    * Main method to run the Battleship game in the console.
    *
-   * @param args unused
+   * @param args optionally, the path of a fleet file to play with instead of the standard fleet
+   * @throws IOException if the fleet file cannot be read
    */
-  public static void main(String[] args) {
-    BattleshipModel model = new BattleshipModelImpl();
+  public static void main(String[] args) throws IOException {
+    Fleet fleet = args.length > 0 ? Fleet.load(Paths.get(args[0])) : Fleet.standard();
+    BattleshipModel model = new BattleshipModelImpl(fleet);
     model.startGame();
     Scanner scanner = new Scanner(System.in);
     System.out.println("Welcome to Battleship!");
@@ -0,0 +1,37 @@
+import battleship.BattleshipModel;
+import battleship.BattleshipModelImpl;
+import battleship.HeadlessClickDriver;
+import battleship.RecordingBattleshipView;
+import battleship.SwingBattleshipController;
+import java.util.Random;
+
+/**
+ * Main class to load-test the Swing controller without a display.
+ */
+public class HeadlessMain {
+  /**
+   * Plays games through the controller with a recording view and reports the click rate.
+   *
+   * @param args optionally, the number of games to play (default 100000)
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    RecordingBattleshipView view = new RecordingBattleshipView(1024);
+    HeadlessClickDriver driver = new HeadlessClickDriver(new Random());
+
+    long clicks = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < games; i++) {
+      BattleshipModel model = new BattleshipModelImpl();
+      SwingBattleshipController controller = new SwingBattleshipController(model, view);
+      controller.playGame();
+      clicks += driver.playToEnd(controller, model);
+    }
+    long elapsed = System.nanoTime() - start;
+
+    System.out.println("Games played: " + games);
+    System.out.println("Clicks sent: " + clicks);
+    System.out.println("View calls recorded: " + view.getRecordedCount());
+    System.out.printf("Clicks per second: %.0f%n", clicks * 1e9 / Math.max(1, elapsed));
+  }
+}
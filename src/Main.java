@@ -1,24 +1,51 @@
-import battleship.BattleshipController;
 import battleship.BattleshipModel;
 import battleship.BattleshipModelImpl;
-import battleship.BattleshipView;
+import battleship.StartupProbe;
 import battleship.SwingBattleshipController;
 import battleship.SwingBattleshipView;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.CompletableFuture;
+import javax.swing.SwingUtilities;
 
 /**
  * The Main class contains the main method that runs the Battleship game.
  */
 public class Main {
   /**
-   * The main method that runs the Battleship game.
+   * The main method that runs the Battleship game. The game is started on a worker thread, placing
+   * the ships while the window is built on the event dispatch thread, and the window is shown as
+   * soon as it is built. The controller holds clicks back until the ships are placed. Run with
+   * {@code -Dbattleship.startupProbe=true} to print the time to the first interactive frame.
    *
    * @param args not used
    */
   public static void main(String[] args) {
+    long launched = System.nanoTime();
     BattleshipModel model = new BattleshipModelImpl();
-    BattleshipView view = new SwingBattleshipView();
-    BattleshipController controller = new SwingBattleshipController(model, view);
+    SwingBattleshipController controller = new SwingBattleshipController(model);
+    CompletableFuture<Void> boardReady = CompletableFuture.runAsync(controller::playGame);
 
-    controller.playGame();
+    SwingUtilities.invokeLater(() -> {
+      StartupProbe probe = new StartupProbe(launched);
+      SwingBattleshipView view = new SwingBattleshipView();
+      controller.attachView(view);
+      view.addWindowListener(new WindowAdapter() {
+        @Override
+        public void windowOpened(WindowEvent e) {
+          probe.frameShown();
+        }
+      });
+      view.setVisible(true);
+
+      boardReady.whenComplete((done, error) -> SwingUtilities.invokeLater(() -> {
+        if (error != null) {
+          view.updateStatus("Could not set up the board: " + error.getMessage());
+          view.disableGrid();
+          return;
+        }
+        probe.boardReady();
+      }));
+    });
   }
 }
@@ -0,0 +1,34 @@
+import battleship.Fleet;
+import battleship.OpeningBookBuilder;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Main class to precompute the opening book for the standard fleet.
+ */
+public class OpeningBookMain {
+  /**
+   * Builds an opening book and writes it to a file.
+   *
+   * @param args the output file, then optionally the number of sampled layouts (default 200000),
+   *             the number of guesses covered (default 12) and the least number of agreeing
+   *             layouts for an entry (default 64)
+   * @throws IOException if the book cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.out.println("Usage: OpeningBookMain <book file> [samples] [depth] [min samples]");
+      return;
+    }
+    int samples = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+    int depth = args.length > 2 ? Integer.parseInt(args[2]) : 12;
+    int minSamples = args.length > 3 ? Integer.parseInt(args[3]) : 64;
+
+    long start = System.nanoTime();
+    OpeningBookBuilder builder = new OpeningBookBuilder(Fleet.standard(), depth, minSamples);
+    int entries = builder.build(Paths.get(args[0]), samples, new Random());
+    System.out.println("Opening book entries: " + entries);
+    System.out.printf("Built in %.1f s%n", (System.nanoTime() - start) / 1e9);
+  }
+}
@@ -1,5 +1,6 @@
 package battleship;
 
+import java.util.Arrays;
 import java.util.Random;
 
 /**
@@ -10,23 +11,51 @@ public class BattleshipModelImpl implements BattleshipModel {
   private static final int GRID_SIZE = 10;
   private static final int MAX_GUESSES = 50;
 
+  private final Fleet fleet;
+  private final Random random;
   private final CellState[][] cellGrid;
   private final ShipType[][] shipGrid;
 
-  private final ShipType[] shipStatus;
+  // the cells of each ship, as low and high words in the layout used by PlacementMasks
+  private final long[] shipMasks;
+  private final boolean[] shipSunk;
+  private int shipsAfloat;
 
   private int guessCount;
   private boolean gameOver;
 
   /**
-   * Constructs a new instance of the Battleship game model.
-   * Initializes the cell grid and ship grid.
-   * As well as the ship status array.
+   * Constructs a new instance of the Battleship game model with the standard fleet.
    */
   public BattleshipModelImpl() {
+    this(Fleet.standard());
+  }
+
+  /**
+   * Constructs a new instance of the Battleship game model with the given fleet.
+   * Initializes the cell grid and ship grid.
+   * As well as the ship masks and the sunk flag of each ship.
+   *
+   * @param fleet the ships to place when the game starts
+   */
+  public BattleshipModelImpl(Fleet fleet) {
+    this(fleet, new Random());
+  }
+
+  /**
+   * Constructs a game model that places its ships with the given source of randomness, so that
+   * the layouts of a seeded game can be reproduced.
+   *
+   * @param fleet  the ships to place when the game starts
+   * @param random the source of randomness for ship placement
+   */
+  BattleshipModelImpl(Fleet fleet, Random random) {
+    this.fleet = fleet;
+    this.random = random;
     cellGrid = new CellState[GRID_SIZE][GRID_SIZE];
     shipGrid = new ShipType[GRID_SIZE][GRID_SIZE];
-    shipStatus = new ShipType[5];
+    shipMasks = new long[2 * fleet.size()];
+    shipSunk = new boolean[fleet.size()];
     guessCount = 0;
     gameOver = false;
 
@@ -39,14 +68,17 @@ public class BattleshipModelImpl implements BattleshipModel {
 
   @Override
   public void startGame() {
+    // forget the guesses of any earlier game
+    for (CellState[] row : cellGrid) {
+      Arrays.fill(row, CellState.UNKNOWN);
+    }
+    guessCount = 0;
+    gameOver = false;
+
     placeShipsRandomly();
-    // we have 5 ships, so we need 5 elements in the array to keep track of the status of each ship
-    // when a ship being hit by player, we will remove it from the array
-    shipStatus[0] = ShipType.AIRCRAFT_CARRIER;
-    shipStatus[1] = ShipType.BATTLESHIP;
-    shipStatus[2] = ShipType.SUBMARINE;
-    shipStatus[3] = ShipType.DESTROYER;
-    shipStatus[4] = ShipType.PATROL_BOAT;
+    // every ship starts afloat; when a ship is hit by the player, we mark it as sunk
+    Arrays.fill(shipSunk, false);
+    shipsAfloat = fleet.size();
 
     /* Cheat mode for testing */
     // System.out.println("\nShip Grid showed for testing:");
@@ -65,59 +97,28 @@ public class BattleshipModelImpl implements BattleshipModel {
   }
 
   private void placeShipsRandomly() {
-    Random random = new Random();
-    ShipType[] ships = ShipType.values();
-
-    for (ShipType ship : ships) {
-      boolean placed = false;
-      while (!placed) {
-        int row = random.nextInt(GRID_SIZE);
-        int col = random.nextInt(GRID_SIZE);
-        boolean horizontal = random.nextBoolean();
-
-        if (canPlaceShip(ship, row, col, horizontal)) {
-          placeShip(ship, row, col, horizontal);
-          placed = true;
-        }
-      }
+    fleet.placeRandomly(random, shipMasks);
+
+    // clear the ships of any earlier game
+    for (ShipType[] row : shipGrid) {
+      Arrays.fill(row, null);
     }
-  }
 
-  private boolean canPlaceShip(ShipType ship, int row, int col, boolean horizontal) {
-    int size = ship.getSize();
-    if (horizontal) {
-      if (col + size > GRID_SIZE) {
-        return false;
-      }
-      for (int i = 0; i < size; i++) {
-        if (shipGrid[row][col + i] != null) {
-          return false;
-        }
-      }
-    } else {
-      if (row + size > GRID_SIZE) {
-        return false;
-      }
-      for (int i = 0; i < size; i++) {
-        if (shipGrid[row + i][col] != null) {
-          return false;
+    for (int ship = 0; ship < fleet.size(); ship++) {
+      ShipType type = fleet.getShipType(ship);
+      for (int cell = 0; cell < GRID_SIZE * GRID_SIZE; cell++) {
+        if (occupies(ship, cell)) {
+          shipGrid[cell / GRID_SIZE][cell % GRID_SIZE] = type;
         }
       }
     }
-    return true;
   }
 
-  private void placeShip(ShipType ship, int row, int col, boolean horizontal) {
-    int size = ship.getSize();
-    if (horizontal) {
-      for (int i = 0; i < size; i++) {
-        shipGrid[row][col + i] = ship;
-      }
-    } else {
-      for (int i = 0; i < size; i++) {
-        shipGrid[row + i][col] = ship;
-      }
+  private boolean occupies(int ship, int cell) {
+    if (cell < 64) {
+      return (shipMasks[2 * ship] & 1L << cell) != 0;
     }
+    return (shipMasks[2 * ship + 1] & 1L << (cell - 64)) != 0;
   }
 
   @Override
@@ -139,8 +140,7 @@ public class BattleshipModelImpl implements BattleshipModel {
 
     if (shipGrid[row][col] != null) {
       cellGrid[row][col] = CellState.HIT;
-      ShipType ship = shipGrid[row][col];
-      removeShip(ship);
+      removeShip(row * GRID_SIZE + col);
       if (areAllShipsSunk()) {
         gameOver = true;
       }
@@ -157,12 +157,15 @@ public class BattleshipModelImpl implements BattleshipModel {
   }
 
   /**
-  * When one ship got hit, we need to remove it from the array.
+  * When one ship got hit, we need to mark it as sunk.
   */
-  private void removeShip(ShipType ship) {
-    for (int i = 0; i < shipStatus.length; i++) {
-      if (shipStatus[i] == ship) {
-        shipStatus[i] = null;
+  private void removeShip(int cell) {
+    for (int ship = 0; ship < shipSunk.length; ship++) {
+      if (occupies(ship, cell)) {
+        if (!shipSunk[ship]) {
+          shipSunk[ship] = true;
+          shipsAfloat--;
+        }
         break;
       }
     }
@@ -176,11 +179,7 @@ public class BattleshipModelImpl implements BattleshipModel {
    */
   @Override
   public boolean areAllShipsSunk() {
-    return shipStatus[0] == null
-        && shipStatus[1] == null
-        && shipStatus[2] == null
-        && shipStatus[3] == null
-        && shipStatus[4] == null;
+    return shipsAfloat == 0;
   }
 
   @Override
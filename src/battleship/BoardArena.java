@@ -0,0 +1,137 @@
+package battleship;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+/**
+ * Stores many Battleship boards off the Java heap as fixed-size records in direct byte buffers.
+ * Boards are read and played through a {@link BoardCursor}, which implements
+ * {@link BattleshipModel} on whichever record it is positioned at, so a batch of games needs no
+ * per-game objects at all.
+ *
+ * <p>Each record holds the guessed and hit cells as bit masks, the guess count, the number of
+ * ships still afloat, a flags byte, the fleet index of the ship on every cell and a bit mask of
+ * sunk ships. Records are grouped into slabs so that the arena is not limited by the 2 GB size of
+ * a single buffer. The total size is bounded by the JVM's direct memory limit, which can be raised
+ * with {@code -XX:MaxDirectMemorySize}.
+ */
+public class BoardArena {
+  static final int GUESSED_LOW = 0;
+  static final int GUESSED_HIGH = 8;
+  static final int HIT_LOW = 16;
+  static final int HIT_HIGH = 24;
+  static final int GUESS_COUNT = 32;
+  static final int SHIPS_AFLOAT = 34;
+  static final int FLAGS = 36;
+  // a fleet has at most one ship per cell, so ship numbers fit a byte and the sunk mask two words
+  static final int SHIPS = 40;
+  static final int SUNK = SHIPS + PlacementMasks.CELLS + 4;
+  static final int STRIDE = SUNK + 16;
+
+  static final byte STARTED = 1;
+  static final byte OVER = 2;
+
+  private static final int SLAB_SHIFT = 23; // 8M records, about 1.3 GB per slab
+
+  private final Fleet fleet;
+  private final int maxGuesses;
+  private final long capacity;
+  private final ByteBuffer[] slabs;
+
+  /**
+   * Allocates an arena of empty boards for the given fleet, allowing 50 guesses per game.
+   *
+   * @param fleet    the ships to place on every board
+   * @param capacity the number of boards
+   * @throws IllegalArgumentException if the capacity is negative
+   */
+  public BoardArena(Fleet fleet, long capacity) {
+    this(fleet, capacity, 50);
+  }
+
+  /**
+   * Allocates an arena of empty boards.
+   *
+   * @param fleet      the ships to place on every board
+   * @param capacity   the number of boards
+   * @param maxGuesses the maximum number of guesses in a game
+   * @throws IllegalArgumentException if the capacity is negative or the guess limit is not between
+   *                                  1 and the number of cells
+   */
+  public BoardArena(Fleet fleet, long capacity, int maxGuesses) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative.");
+    }
+    if (maxGuesses < 1 || maxGuesses > PlacementMasks.CELLS) {
+      throw new IllegalArgumentException("Maximum guesses must be between 1 and "
+          + PlacementMasks.CELLS + ".");
+    }
+    this.fleet = fleet;
+    this.maxGuesses = maxGuesses;
+    this.capacity = capacity;
+
+    long perSlab = 1L << SLAB_SHIFT;
+    slabs = new ByteBuffer[(int) ((capacity + perSlab - 1) >>> SLAB_SHIFT)];
+    for (int i = 0; i < slabs.length; i++) {
+      long records = Math.min(perSlab, capacity - i * perSlab);
+      // native order, so the cursor's word reads and writes need no byte swapping
+      slabs[i] = ByteBuffer.allocateDirect((int) (records * STRIDE))
+          .order(ByteOrder.nativeOrder());
+    }
+  }
+
+  /**
+   * Creates a cursor over this arena with its own source of randomness for ship placement.
+   *
+   * @return a new cursor positioned at the first board
+   */
+  public BoardCursor cursor() {
+    return new BoardCursor(this, new Random());
+  }
+
+  /**
+   * Creates a cursor over this arena.
+   *
+   * @param random the source of randomness for ship placement
+   * @return a new cursor positioned at the first board
+   */
+  public BoardCursor cursor(Random random) {
+    return new BoardCursor(this, random);
+  }
+
+  /**
+   * Gets the number of boards in the arena.
+   *
+   * @return the number of boards
+   */
+  public long getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Gets the fleet placed on every board.
+   *
+   * @return the fleet
+   */
+  public Fleet getFleet() {
+    return fleet;
+  }
+
+  /**
+   * Gets the maximum number of guesses in a game.
+   *
+   * @return the maximum number of guesses
+   */
+  public int getMaxGuesses() {
+    return maxGuesses;
+  }
+
+  ByteBuffer slabOf(long board) {
+    return slabs[(int) (board >>> SLAB_SHIFT)];
+  }
+
+  int offsetOf(long board) {
+    return (int) (board & ((1L << SLAB_SHIFT) - 1)) * STRIDE;
+  }
+}
@@ -0,0 +1,210 @@
+package battleship;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * A {@link BattleshipModel} that works directly on one board record of a {@link BoardArena}. A
+ * cursor is moved from board to board with {@link #moveTo(long)}, so a single cursor can play any
+ * number of games without allocating. A board must be started with {@link #startGame()} before
+ * guesses can be made on it. A cursor must only be used by one thread at a time; separate cursors
+ * may work on separate boards of the same arena concurrently.
+ */
+public class BoardCursor implements BattleshipModel {
+  private static final int GRID_SIZE = PlacementMasks.GRID_SIZE;
+  private static final int CELLS = PlacementMasks.CELLS;
+
+  private final BoardArena arena;
+  private final Fleet fleet;
+  private final Random random;
+  private final long[] placed;
+
+  private ByteBuffer slab;
+  private int base;
+  private long board;
+
+  BoardCursor(BoardArena arena, Random random) {
+    this.arena = arena;
+    this.fleet = arena.getFleet();
+    this.random = random;
+    this.placed = new long[2 * fleet.size()];
+    if (arena.getCapacity() > 0) {
+      moveTo(0);
+    }
+  }
+
+  /**
+   * Positions this cursor at a board.
+   *
+   * @param board the index of the board in the arena
+   * @return this cursor
+   * @throws IndexOutOfBoundsException if the index is outside the arena
+   */
+  public BoardCursor moveTo(long board) {
+    if (board < 0 || board >= arena.getCapacity()) {
+      throw new IndexOutOfBoundsException("Board " + board + " is outside the arena.");
+    }
+    this.slab = arena.slabOf(board);
+    this.base = arena.offsetOf(board);
+    this.board = board;
+    return this;
+  }
+
+  /**
+   * Gets the index of the board this cursor is positioned at.
+   *
+   * @return the board index
+   */
+  public long getBoard() {
+    return board;
+  }
+
+  @Override
+  public void startGame() {
+    ByteBuffer record = record();
+    for (int i = 0; i < BoardArena.STRIDE; i += Long.BYTES) {
+      record.putLong(base + i, 0);
+    }
+
+    fleet.placeRandomly(random, placed);
+    for (int ship = 0; ship < fleet.size(); ship++) {
+      long low = placed[2 * ship];
+      long high = placed[2 * ship + 1];
+      while (low != 0) {
+        record.put(base + BoardArena.SHIPS + Long.numberOfTrailingZeros(low), (byte) (ship + 1));
+        low &= low - 1;
+      }
+      while (high != 0) {
+        record.put(base + BoardArena.SHIPS + 64 + Long.numberOfTrailingZeros(high),
+            (byte) (ship + 1));
+        high &= high - 1;
+      }
+    }
+    record.putShort(base + BoardArena.SHIPS_AFLOAT, (short) fleet.size());
+    record.put(base + BoardArena.FLAGS, BoardArena.STARTED);
+  }
+
+  @Override
+  public boolean makeGuess(int row, int col) {
+    ByteBuffer record = record();
+    byte flags = record.get(base + BoardArena.FLAGS);
+    if ((flags & BoardArena.STARTED) == 0) {
+      throw new IllegalStateException("Game has not started.");
+    }
+    if ((flags & BoardArena.OVER) != 0) {
+      throw new IllegalStateException("Game is already over.");
+    }
+    if (row < 0 || row >= GRID_SIZE || col < 0 || col >= GRID_SIZE) {
+      throw new IllegalArgumentException("Coordinates out of bounds.");
+    }
+    int cell = row * GRID_SIZE + col;
+    int word = cell < 64 ? 0 : Long.BYTES;
+    long bit = 1L << (cell & 63);
+    long guessed = record.getLong(base + BoardArena.GUESSED_LOW + word);
+    if ((guessed & bit) != 0) {
+      throw new IllegalArgumentException("Cell already guessed.");
+    }
+    record.putLong(base + BoardArena.GUESSED_LOW + word, guessed | bit);
+
+    int guessCount = record.getShort(base + BoardArena.GUESS_COUNT) + 1;
+    record.putShort(base + BoardArena.GUESS_COUNT, (short) guessCount);
+    if (guessCount == arena.getMaxGuesses()) {
+      flags |= BoardArena.OVER;
+    }
+
+    int ship = (record.get(base + BoardArena.SHIPS + cell) & 0xFF) - 1;
+    boolean hit = ship >= 0;
+    if (hit) {
+      long hits = record.getLong(base + BoardArena.HIT_LOW + word);
+      record.putLong(base + BoardArena.HIT_LOW + word, hits | bit);
+
+      // just one hit sinks a ship, as in BattleshipModelImpl
+      int sunkWord = base + BoardArena.SUNK + (ship < 64 ? 0 : Long.BYTES);
+      long sunkBit = 1L << (ship & 63);
+      long sunk = record.getLong(sunkWord);
+      if ((sunk & sunkBit) == 0) {
+        record.putLong(sunkWord, sunk | sunkBit);
+        int afloat = record.getShort(base + BoardArena.SHIPS_AFLOAT) - 1;
+        record.putShort(base + BoardArena.SHIPS_AFLOAT, (short) afloat);
+        if (afloat == 0) {
+          flags |= BoardArena.OVER;
+        }
+      }
+    }
+    record.put(base + BoardArena.FLAGS, flags);
+    return hit;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return (record().get(base + BoardArena.FLAGS) & BoardArena.OVER) != 0;
+  }
+
+  @Override
+  public boolean areAllShipsSunk() {
+    return record().getShort(base + BoardArena.SHIPS_AFLOAT) == 0;
+  }
+
+  @Override
+  public int getGuessCount() {
+    return record().getShort(base + BoardArena.GUESS_COUNT);
+  }
+
+  @Override
+  public int getMaxGuesses() {
+    return arena.getMaxGuesses();
+  }
+
+  @Override
+  public CellState[][] getCellGrid() {
+    ByteBuffer record = record();
+    long guessedLow = record.getLong(base + BoardArena.GUESSED_LOW);
+    long guessedHigh = record.getLong(base + BoardArena.GUESSED_HIGH);
+    long hitLow = record.getLong(base + BoardArena.HIT_LOW);
+    long hitHigh = record.getLong(base + BoardArena.HIT_HIGH);
+
+    CellState[][] grid = new CellState[GRID_SIZE][GRID_SIZE];
+    for (int cell = 0; cell < CELLS; cell++) {
+      long guessed = cell < 64 ? guessedLow : guessedHigh;
+      long hits = cell < 64 ? hitLow : hitHigh;
+      long bit = 1L << (cell & 63);
+      CellState state;
+      if ((guessed & bit) == 0) {
+        state = CellState.UNKNOWN;
+      } else if ((hits & bit) != 0) {
+        state = CellState.HIT;
+      } else {
+        state = CellState.MISS;
+      }
+      grid[cell / GRID_SIZE][cell % GRID_SIZE] = state;
+    }
+    return grid;
+  }
+
+  @Override
+  public ShipType[][] getShipGrid() {
+    if (!isGameOver()) {
+      throw new IllegalStateException("Game is not over.");
+    }
+    ByteBuffer record = record();
+    ShipType[][] grid = new ShipType[GRID_SIZE][GRID_SIZE];
+    for (int cell = 0; cell < CELLS; cell++) {
+      int ship = (record.get(base + BoardArena.SHIPS + cell) & 0xFF) - 1;
+      if (ship >= 0) {
+        grid[cell / GRID_SIZE][cell % GRID_SIZE] = fleet.getShipType(ship);
+      }
+    }
+    return grid;
+  }
+
+  long guessedWord(int word) {
+    return record().getLong(base + BoardArena.GUESSED_LOW + word * Long.BYTES);
+  }
+
+  private ByteBuffer record() {
+    if (slab == null) {
+      throw new IndexOutOfBoundsException("The arena has no boards.");
+    }
+    return slab;
+  }
+}
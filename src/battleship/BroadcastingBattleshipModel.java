@@ -0,0 +1,67 @@
+package battleship;
+
+/**
+ * A {@link BattleshipModel} that passes every call to another model and broadcasts the outcome of
+ * each successful guess through a {@link MoveBroadcaster}. Broadcasting never blocks, so
+ * spectators cannot slow down the player. Guesses must all be made from one thread, such as the
+ * event dispatch thread.
+ */
+public class BroadcastingBattleshipModel implements BattleshipModel {
+  private final BattleshipModel model;
+  private final MoveBroadcaster broadcaster;
+
+  /**
+   * Constructs a broadcasting model.
+   *
+   * @param model       the model that plays the game
+   * @param broadcaster the broadcaster that receives the moves
+   */
+  public BroadcastingBattleshipModel(BattleshipModel model, MoveBroadcaster broadcaster) {
+    this.model = model;
+    this.broadcaster = broadcaster;
+  }
+
+  @Override
+  public void startGame() {
+    model.startGame();
+    broadcaster.startGame();
+  }
+
+  @Override
+  public boolean makeGuess(int row, int col) {
+    boolean hit = model.makeGuess(row, col);
+    broadcaster.publish(row, col, hit, model.getGuessCount(), model.isGameOver(),
+        model.areAllShipsSunk());
+    return hit;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return model.isGameOver();
+  }
+
+  @Override
+  public boolean areAllShipsSunk() {
+    return model.areAllShipsSunk();
+  }
+
+  @Override
+  public int getGuessCount() {
+    return model.getGuessCount();
+  }
+
+  @Override
+  public int getMaxGuesses() {
+    return model.getMaxGuesses();
+  }
+
+  @Override
+  public CellState[][] getCellGrid() {
+    return model.getCellGrid();
+  }
+
+  @Override
+  public ShipType[][] getShipGrid() {
+    return model.getShipGrid();
+  }
+}
@@ -0,0 +1,265 @@
+package battleship;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The ships placed at the start of a game. The standard fleet has one ship of each
+ * {@link ShipType}; other fleets can be loaded from a file and may hold any number of ships of any
+ * type and length. Each ship keeps a {@link ShipType} so it can be shown on the ship grid, but its
+ * length is set by the fleet. Placement masks for every length in the fleet are built once when
+ * the fleet is created and shared by all games using it. Fleets are immutable.
+ *
+ * <p>A fleet file has one line per kind of ship, giving the ship type, the length and the number of
+ * ships, separated by whitespace. Blank lines and lines starting with {@code #} are ignored:
+ *
+ * <pre>
+ * # type       length count
+ * DESTROYER    3      4
+ * PATROL_BOAT  2      6
+ * </pre>
+ */
+public final class Fleet {
+  private static final int MAX_ATTEMPTS = 10_000;
+  private static final int RANDOM_TRIES = 16;
+
+  private static final Fleet STANDARD = createStandard();
+
+  private final ShipType[] types;
+  private final int[] lengths;
+  private final PlacementMasks[] masks;
+  private final int[] placementOrder;
+
+  private Fleet(List<ShipType> types, List<Integer> lengths) {
+    int count = types.size();
+    if (count == 0) {
+      throw new IllegalArgumentException("Fleet must contain at least one ship.");
+    }
+    this.types = types.toArray(new ShipType[0]);
+    this.lengths = new int[count];
+    int cells = 0;
+    for (int i = 0; i < count; i++) {
+      this.lengths[i] = lengths.get(i);
+      cells += this.lengths[i];
+    }
+    if (cells > PlacementMasks.CELLS) {
+      throw new IllegalArgumentException("Fleet does not fit on the board.");
+    }
+
+    // one mask table per distinct length, shared by every ship of that length
+    PlacementMasks[] byLength = new PlacementMasks[PlacementMasks.GRID_SIZE + 1];
+    masks = new PlacementMasks[count];
+    for (int i = 0; i < count; i++) {
+      int length = this.lengths[i];
+      if (byLength[length] == null) {
+        byLength[length] = new PlacementMasks(length);
+      }
+      masks[i] = byLength[length];
+    }
+
+    // place the longest ships first, while the board still has room for them
+    placementOrder = new int[count];
+    int next = 0;
+    for (int length = PlacementMasks.GRID_SIZE; length > 0; length--) {
+      for (int i = 0; i < count; i++) {
+        if (this.lengths[i] == length) {
+          placementOrder[next++] = i;
+        }
+      }
+    }
+  }
+
+  private static Fleet createStandard() {
+    List<ShipType> types = new ArrayList<>();
+    List<Integer> lengths = new ArrayList<>();
+    for (ShipType ship : ShipType.values()) {
+      types.add(ship);
+      lengths.add(ship.getSize());
+    }
+    return new Fleet(types, lengths);
+  }
+
+  /**
+   * Gets the standard fleet, with one ship of each {@link ShipType}.
+   *
+   * @return the standard fleet
+   */
+  public static Fleet standard() {
+    return STANDARD;
+  }
+
+  /**
+   * Loads a fleet from a file.
+   *
+   * @param path the fleet file
+   * @return the fleet
+   * @throws IOException              if the file cannot be read
+   * @throws IllegalArgumentException if the file is malformed or the fleet does not fit on the
+   *                                  board
+   */
+  public static Fleet load(Path path) throws IOException {
+    return parse(Files.readAllLines(path, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses a fleet from the lines of a fleet file.
+   *
+   * @param lines the lines of the fleet file
+   * @return the fleet
+   * @throws IllegalArgumentException if a line is malformed or the fleet does not fit on the board
+   */
+  public static Fleet parse(List<String> lines) {
+    List<ShipType> types = new ArrayList<>();
+    List<Integer> lengths = new ArrayList<>();
+    for (int n = 0; n < lines.size(); n++) {
+      String line = lines.get(n).trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] parts = line.split("\\s+");
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Line " + (n + 1) + ": expected type, length, count.");
+      }
+      ShipType type;
+      int length;
+      int count;
+      try {
+        type = ShipType.valueOf(parts[0].toUpperCase());
+        length = Integer.parseInt(parts[1]);
+        count = Integer.parseInt(parts[2]);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Line " + (n + 1) + ": " + e.getMessage());
+      }
+      if (length < 1 || length > PlacementMasks.GRID_SIZE || count < 0) {
+        throw new IllegalArgumentException("Line " + (n + 1) + ": invalid length or count.");
+      }
+      if (types.size() + count > PlacementMasks.CELLS) {
+        throw new IllegalArgumentException("Fleet does not fit on the board.");
+      }
+      for (int i = 0; i < count; i++) {
+        types.add(type);
+        lengths.add(length);
+      }
+    }
+    return new Fleet(types, lengths);
+  }
+
+  /**
+   * Gets the number of ships in the fleet.
+   *
+   * @return the number of ships
+   */
+  public int size() {
+    return types.length;
+  }
+
+  /**
+   * Gets the type of a ship.
+   *
+   * @param ship the index of the ship in the fleet
+   * @return the type of the ship
+   */
+  public ShipType getShipType(int ship) {
+    return types[ship];
+  }
+
+  /**
+   * Gets the length of a ship.
+   *
+   * @param ship the index of the ship in the fleet
+   * @return the length of the ship
+   */
+  public int getLength(int ship) {
+    return lengths[ship];
+  }
+
+  /**
+   * Gets the placement masks for a ship.
+   *
+   * @param ship the index of the ship in the fleet
+   * @return the shared placement masks for the ship's length
+   */
+  public PlacementMasks getPlacementMasks(int ship) {
+    return masks[ship];
+  }
+
+  /**
+   * Computes a fingerprint of the type and length of every ship, in fleet order, so that files
+   * built for one fleet can tell it apart from another.
+   *
+   * @return the fingerprint
+   */
+  long fingerprint() {
+    // 64-bit FNV-1a over one byte of type and one of length per ship
+    long hash = 0xCBF29CE484222325L;
+    for (int ship = 0; ship < types.length; ship++) {
+      hash = (hash ^ types[ship].ordinal()) * 0x100000001B3L;
+      hash = (hash ^ lengths[ship]) * 0x100000001B3L;
+    }
+    return hash;
+  }
+
+  /**
+   * Places every ship of the fleet at random without overlap.
+   *
+   * @param random the source of randomness
+   * @param placed receives the mask of each ship: the low word at {@code 2 * ship} and the high
+   *               word at {@code 2 * ship + 1}; must hold at least {@code 2 * size()} entries
+   * @throws IllegalStateException if the ships could not be placed, which can only happen for
+   *                               fleets that nearly fill the board
+   */
+  public void placeRandomly(Random random, long[] placed) {
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      if (tryPlace(random, placed)) {
+        return;
+      }
+    }
+    throw new IllegalStateException("Could not place the fleet on the board.");
+  }
+
+  private boolean tryPlace(Random random, long[] placed) {
+    long usedLow = 0;
+    long usedHigh = 0;
+    for (int ship : placementOrder) {
+      PlacementMasks options = masks[ship];
+      int choice = -1;
+
+      // most placements are free early on, so a few blind picks usually succeed
+      for (int i = 0; i < RANDOM_TRIES && choice < 0; i++) {
+        int pick = random.nextInt(options.size());
+        if ((options.low(pick) & usedLow) == 0 && (options.high(pick) & usedHigh) == 0) {
+          choice = pick;
+        }
+      }
+      if (choice < 0) {
+        int free = 0;
+        for (int i = 0; i < options.size(); i++) {
+          if ((options.low(i) & usedLow) == 0 && (options.high(i) & usedHigh) == 0) {
+            free++;
+          }
+        }
+        if (free == 0) {
+          return false;
+        }
+        int skip = random.nextInt(free);
+        for (int i = 0; choice < 0; i++) {
+          if ((options.low(i) & usedLow) == 0 && (options.high(i) & usedHigh) == 0
+              && skip-- == 0) {
+            choice = i;
+          }
+        }
+      }
+
+      placed[2 * ship] = options.low(choice);
+      placed[2 * ship + 1] = options.high(choice);
+      usedLow |= options.low(choice);
+      usedHigh |= options.high(choice);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,222 @@
+package battleship;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads an archive written by {@link GameArchiveWriter}. The file is memory-mapped and queries scan
+ * only the columns they need, straight from the mapping, without building a per-game object.
+ */
+public class GameArchiveReader implements Closeable {
+  private static final ShipType[] SHIPS = ShipType.values();
+
+  private final FileChannel channel;
+  private final MappedByteBuffer[] chunks;
+  private final int blocksPerChunk;
+  private final int blockBytes;
+  private final int cells;
+  private final int maxGuesses;
+  private final long gameCount;
+
+  /**
+   * Opens and maps an archive.
+   *
+   * @param path the archive file
+   * @throws IOException              if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a game archive
+   */
+  public GameArchiveReader(Path path) throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      ByteBuffer header = ByteBuffer.allocate(GameArchiveWriter.HEADER_BYTES);
+      while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+        // keep reading until the header is complete or the file ends
+      }
+      header.flip();
+      if (header.remaining() < GameArchiveWriter.HEADER_BYTES
+          || header.getInt() != GameArchiveWriter.MAGIC) {
+        throw new IllegalArgumentException("Not a game archive: " + path);
+      }
+      if (header.getInt() != GameArchiveWriter.VERSION) {
+        throw new IllegalArgumentException("Unsupported archive version: " + path);
+      }
+      cells = header.getInt();
+      if (cells != GameArchiveWriter.CELLS) {
+        throw new IllegalArgumentException("Unsupported archive board size: " + path);
+      }
+      maxGuesses = header.getInt();
+      if (maxGuesses < 1 || maxGuesses > 255) {
+        throw new IllegalArgumentException("Invalid archive guess limit: " + path);
+      }
+      if (header.getInt() != GameArchiveWriter.BLOCK_GAMES) {
+        throw new IllegalArgumentException("Unsupported archive block size: " + path);
+      }
+      header.getInt();
+      gameCount = header.getLong();
+      if (gameCount < 0) {
+        throw new IllegalArgumentException("Invalid archive game count: " + path);
+      }
+
+      blockBytes = GameArchiveWriter.blockBytes(maxGuesses);
+      long blocks = (gameCount + GameArchiveWriter.BLOCK_GAMES - 1)
+          / GameArchiveWriter.BLOCK_GAMES;
+      if (channel.size() < GameArchiveWriter.HEADER_BYTES + blocks * blockBytes) {
+        throw new IllegalArgumentException("Truncated game archive: " + path);
+      }
+      blocksPerChunk = Integer.MAX_VALUE / blockBytes;
+      chunks = new MappedByteBuffer[(int) ((blocks + blocksPerChunk - 1) / blocksPerChunk)];
+      for (int i = 0; i < chunks.length; i++) {
+        long firstBlock = (long) i * blocksPerChunk;
+        long size = Math.min(blocksPerChunk, blocks - firstBlock) * blockBytes;
+        chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+            GameArchiveWriter.HEADER_BYTES + firstBlock * blockBytes, size);
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the number of games in the archive.
+   *
+   * @return the number of games
+   */
+  public long getGameCount() {
+    return gameCount;
+  }
+
+  /**
+   * Gets the maximum number of guesses of the archived games.
+   *
+   * @return the maximum number of guesses
+   */
+  public int getMaxGuesses() {
+    return maxGuesses;
+  }
+
+  /**
+   * Computes the fraction of archived games in which all ships were sunk.
+   *
+   * @return the win rate, or 0 if the archive is empty
+   */
+  public double winRate() {
+    long wins = 0;
+    for (long block = 0; block * GameArchiveWriter.BLOCK_GAMES < gameCount; block++) {
+      ByteBuffer buffer = chunkOf(block);
+      int base = offsetOf(block);
+      int games = gamesIn(block);
+      for (int g = 0; g < games; g++) {
+        wins += buffer.get(base + g);
+      }
+    }
+    return gameCount == 0 ? 0 : (double) wins / gameCount;
+  }
+
+  /**
+   * Counts won games by the number of guesses they took.
+   *
+   * @return an array where index {@code n} holds the number of games won in exactly {@code n}
+   *         guesses
+   * @throws IllegalArgumentException if the archive holds a guess count above the guess limit
+   */
+  public long[] guessesToWinHistogram() {
+    long[] histogram = new long[maxGuesses + 1];
+    for (long block = 0; block * GameArchiveWriter.BLOCK_GAMES < gameCount; block++) {
+      ByteBuffer buffer = chunkOf(block);
+      int base = offsetOf(block);
+      int games = gamesIn(block);
+      for (int g = 0; g < games; g++) {
+        if (buffer.get(base + g) != 0) {
+          histogram[countOf(buffer, base, g)]++;
+        }
+      }
+    }
+    return histogram;
+  }
+
+  /**
+   * Computes, for each ship type, the fraction of its cells that were guessed across all games.
+   *
+   * @return an array indexed by {@link ShipType#ordinal()} holding the hit rate of each ship type,
+   *         or 0 for types that never appear
+   * @throws IllegalArgumentException if the archive holds an unknown ship, a guess outside the
+   *                                  board or a guess count above the guess limit
+   */
+  public double[] hitRateByShipType() {
+    // sized for any byte, so unknown ships are counted here and rejected once at the end
+    long[] hits = new long[256];
+    long[] occupied = new long[256];
+    int layoutColumn = 2 * GameArchiveWriter.BLOCK_GAMES;
+    int guessColumn = (2 + cells) * GameArchiveWriter.BLOCK_GAMES;
+    for (long block = 0; block * GameArchiveWriter.BLOCK_GAMES < gameCount; block++) {
+      ByteBuffer buffer = chunkOf(block);
+      int base = offsetOf(block);
+      int games = gamesIn(block);
+      int end = base + layoutColumn + games * cells;
+      for (int i = base + layoutColumn; i < end; i++) {
+        occupied[buffer.get(i) & 0xFF]++;
+      }
+      for (int g = 0; g < games; g++) {
+        int layout = base + layoutColumn + g * cells;
+        int guesses = base + guessColumn + g * maxGuesses;
+        int count = countOf(buffer, base, g);
+        for (int i = 0; i < count; i++) {
+          int cell = buffer.get(guesses + i) & 0xFF;
+          if (cell >= cells) {
+            throw new IllegalArgumentException("Corrupt game archive: guess outside the board.");
+          }
+          hits[buffer.get(layout + cell) & 0xFF]++;
+        }
+      }
+    }
+
+    for (int i = SHIPS.length + 1; i < occupied.length; i++) {
+      if (occupied[i] != 0) {
+        throw new IllegalArgumentException("Corrupt game archive: unknown ship " + i + ".");
+      }
+    }
+
+    double[] rates = new double[SHIPS.length];
+    for (int i = 0; i < rates.length; i++) {
+      rates[i] = occupied[i + 1] == 0 ? 0 : (double) hits[i + 1] / occupied[i + 1];
+    }
+    return rates;
+  }
+
+  /**
+   * Closes the archive file. The mappings are released once garbage collected.
+   *
+   * @throws IOException if the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private ByteBuffer chunkOf(long block) {
+    return chunks[(int) (block / blocksPerChunk)];
+  }
+
+  private int offsetOf(long block) {
+    return (int) (block % blocksPerChunk) * blockBytes;
+  }
+
+  private int countOf(ByteBuffer buffer, int base, int game) {
+    int count = buffer.get(base + GameArchiveWriter.BLOCK_GAMES + game) & 0xFF;
+    if (count > maxGuesses) {
+      throw new IllegalArgumentException("Corrupt game archive: too many guesses.");
+    }
+    return count;
+  }
+
+  private int gamesIn(long block) {
+    return (int) Math.min(GameArchiveWriter.BLOCK_GAMES,
+        gameCount - block * GameArchiveWriter.BLOCK_GAMES);
+  }
+}
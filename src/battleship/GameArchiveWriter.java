@@ -0,0 +1,158 @@
+package battleship;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes completed games to a compact binary archive that {@link GameArchiveReader} can query.
+ *
+ * <p>The file starts with a fixed header followed by blocks of {@link #BLOCK_GAMES} games. Each
+ * block is laid out by column: one outcome byte per game, then one guess count byte per game, then
+ * the ship layout of every game (one byte per cell, 0 for water or the ship's ordinal plus one),
+ * then the guesses of every game (one cell index per guess, padded with 0xFF). Every block has the
+ * same size, so any column of any game can be found without reading the games before it.
+ */
+public class GameArchiveWriter implements Closeable {
+  static final int MAGIC = 0x42534841; // "BSHA"
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 32;
+  static final int BLOCK_GAMES = 1024;
+  static final byte NO_GUESS = (byte) 0xFF;
+
+  private static final int GRID_SIZE = 10;
+  static final int CELLS = GRID_SIZE * GRID_SIZE;
+
+  private final FileChannel channel;
+  private final int maxGuesses;
+  private final ByteBuffer block;
+
+  private long gameCount;
+  private int inBlock;
+  private boolean closed;
+
+  /**
+   * Creates an archive at the given path, replacing any existing file.
+   *
+   * @param path       the archive file
+   * @param maxGuesses the maximum number of guesses in a game
+   * @throws IOException              if the file cannot be created
+   * @throws IllegalArgumentException if the maximum number of guesses is not between 1 and 255
+   */
+  public GameArchiveWriter(Path path, int maxGuesses) throws IOException {
+    if (maxGuesses < 1 || maxGuesses > 255) {
+      throw new IllegalArgumentException("Maximum guesses must be between 1 and 255.");
+    }
+    this.maxGuesses = maxGuesses;
+    this.block = ByteBuffer.allocate(blockBytes(maxGuesses));
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  /**
+   * Appends a finished game to the archive.
+   *
+   * @param model   the finished game
+   * @param guesses the cells guessed, in order, as {@code row * 10 + col}; only the first
+   *                {@link BattleshipModel#getGuessCount()} entries are used
+   * @throws IOException              if the archive cannot be written
+   * @throws IllegalStateException    if the game is not over or the writer is closed
+   * @throws IllegalArgumentException if the game allows a different number of guesses, or the
+   *                                  guesses are out of bounds, repeated or not guessed in the game
+   */
+  public void append(BattleshipModel model, int[] guesses) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("Archive is closed.");
+    }
+    if (model.getMaxGuesses() != maxGuesses) {
+      throw new IllegalArgumentException("Game allows a different number of guesses.");
+    }
+    // check everything before touching the block, so a rejected game leaves no trace
+    GuessSequences.checkFinished(model, guesses);
+    ShipType[][] shipGrid = model.getShipGrid();
+    int count = model.getGuessCount();
+
+    block.put(inBlock, (byte) (model.areAllShipsSunk() ? 1 : 0));
+    block.put(BLOCK_GAMES + inBlock, (byte) count);
+
+    int layout = 2 * BLOCK_GAMES + inBlock * CELLS;
+    for (int i = 0; i < GRID_SIZE; i++) {
+      for (int j = 0; j < GRID_SIZE; j++) {
+        ShipType ship = shipGrid[i][j];
+        block.put(layout + i * GRID_SIZE + j, (byte) (ship == null ? 0 : ship.ordinal() + 1));
+      }
+    }
+
+    int moves = (2 + CELLS) * BLOCK_GAMES + inBlock * maxGuesses;
+    for (int i = 0; i < maxGuesses; i++) {
+      if (i < count) {
+        block.put(moves + i, (byte) guesses[i]);
+      } else {
+        block.put(moves + i, NO_GUESS);
+      }
+    }
+
+    gameCount++;
+    inBlock++;
+    if (inBlock == BLOCK_GAMES) {
+      flushBlock();
+    }
+  }
+
+  /**
+   * Gets the number of games appended so far.
+   *
+   * @return the number of games
+   */
+  public long getGameCount() {
+    return gameCount;
+  }
+
+  /**
+   * Writes any buffered games and the header, then closes the file.
+   *
+   * @throws IOException if the archive cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (inBlock > 0) {
+        flushBlock();
+      }
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      header.putInt(MAGIC).putInt(VERSION).putInt(CELLS).putInt(maxGuesses)
+          .putInt(BLOCK_GAMES).putInt(0).putLong(gameCount).flip();
+      writeFully(header, 0);
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void flushBlock() throws IOException {
+    long blockIndex = (gameCount - 1) / BLOCK_GAMES;
+    block.clear();
+    writeFully(block, HEADER_BYTES + blockIndex * block.capacity());
+    // zero the buffer so the unused slots of a partial last block read as empty games
+    Arrays.fill(block.array(), (byte) 0);
+    block.clear();
+    inBlock = 0;
+  }
+
+  private void writeFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  static int blockBytes(int maxGuesses) {
+    return BLOCK_GAMES * (2 + CELLS + maxGuesses);
+  }
+}
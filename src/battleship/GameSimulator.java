@@ -0,0 +1,109 @@
+package battleship;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Plays many games of Battleship in parallel with random guessing and collects their statistics.
+ * Each worker thread records into its own {@link GameStatistics} and publishes it to a shared
+ * {@link StatisticsAggregator} every few games, so the threads never contend on a shared result.
+ */
+public class GameSimulator {
+  private static final int CELLS = 100;
+
+  private final Supplier<BattleshipModel> games;
+  private final StatisticsAggregator aggregator;
+  private final int publishInterval;
+
+  /**
+   * Constructs a simulator.
+   *
+   * @param games           creates a new, unstarted game for each simulated game
+   * @param aggregator      receives the statistics of the simulated games
+   * @param publishInterval the number of games each thread plays between publishing
+   * @throws IllegalArgumentException if the publish interval is not positive
+   */
+  public GameSimulator(Supplier<BattleshipModel> games, StatisticsAggregator aggregator,
+                       int publishInterval) {
+    if (publishInterval <= 0) {
+      throw new IllegalArgumentException("Publish interval must be positive.");
+    }
+    this.games = games;
+    this.aggregator = aggregator;
+    this.publishInterval = publishInterval;
+  }
+
+  /**
+   * Plays the given number of games spread over the given number of threads and waits for them
+   * to finish. If any thread fails, the others are stopped and the failure is rethrown; the
+   * statistics published before the failure stay in the aggregator.
+   *
+   * @param gameCount   the total number of games to play
+   * @param threadCount the number of threads to use
+   * @throws IllegalArgumentException if the thread count is not positive or the game count is
+   *                                  negative
+   * @throws ExecutionException       if a thread failed, with the thread's exception as the cause
+   * @throws InterruptedException     if interrupted while waiting for the threads
+   */
+  public void run(long gameCount, int threadCount)
+      throws ExecutionException, InterruptedException {
+    if (threadCount <= 0 || gameCount < 0) {
+      throw new IllegalArgumentException("Invalid game or thread count.");
+    }
+    ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int t = 0; t < threadCount; t++) {
+        long share = gameCount / threadCount + (t < gameCount % threadCount ? 1 : 0);
+        results.add(workers.submit(() -> play(share)));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  private void play(long count) {
+    Random random = new Random();
+    int[] guesses = new int[CELLS];
+    for (int i = 0; i < CELLS; i++) {
+      guesses[i] = i;
+    }
+    GameStatistics local = null;
+
+    for (long g = 0; g < count && !Thread.currentThread().isInterrupted(); g++) {
+      BattleshipModel model = games.get();
+      model.startGame();
+      if (local == null) {
+        local = new GameStatistics(model.getMaxGuesses());
+      }
+
+      int made = 0;
+      while (!model.isGameOver()) {
+        int pick = made + random.nextInt(CELLS - made);
+        int cell = guesses[pick];
+        guesses[pick] = guesses[made];
+        guesses[made] = cell;
+        model.makeGuess(cell / 10, cell % 10);
+        made++;
+      }
+      // the guesses were made right here, so there is nothing to check
+      local.recordUnchecked(model, guesses);
+
+      if (local.getGameCount() == publishInterval) {
+        aggregator.publish(local);
+      }
+    }
+    if (local != null) {
+      aggregator.publish(local);
+    }
+  }
+}
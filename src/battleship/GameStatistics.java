@@ -0,0 +1,192 @@
+package battleship;
+
+import java.util.Arrays;
+
+/**
+ * Accumulates statistics over finished games in fixed-size histograms. An instance is meant to be
+ * owned by a single thread; instances from different threads are combined with
+ * {@link #merge(GameStatistics)}, usually through a {@link StatisticsAggregator}.
+ */
+public class GameStatistics {
+  private static final int GRID_SIZE = 10;
+  private static final int CELLS = GRID_SIZE * GRID_SIZE;
+  private static final int SHIP_TYPES = ShipType.values().length;
+
+  private final int maxGuesses;
+  private final long[] guessesToFinish;
+  private final long[] firstHits;
+  private final long[] hitOrder;
+  private final boolean[] seen;
+
+  private long games;
+  private long wins;
+
+  /**
+   * Constructs empty statistics for games with the given guess limit.
+   *
+   * @param maxGuesses the maximum number of guesses in a game
+   * @throws IllegalArgumentException if the maximum number of guesses is not positive
+   */
+  public GameStatistics(int maxGuesses) {
+    if (maxGuesses <= 0) {
+      throw new IllegalArgumentException("Maximum guesses must be positive.");
+    }
+    this.maxGuesses = maxGuesses;
+    guessesToFinish = new long[maxGuesses + 1];
+    firstHits = new long[CELLS];
+    hitOrder = new long[SHIP_TYPES * SHIP_TYPES];
+    seen = new boolean[SHIP_TYPES];
+  }
+
+  /**
+   * Records a finished game.
+   *
+   * @param model   the finished game
+   * @param guesses the cells guessed, in order, as {@code row * 10 + col}; only the first
+   *                {@link BattleshipModel#getGuessCount()} entries are used
+   * @throws IllegalStateException    if the game is not over
+   * @throws IllegalArgumentException if the game has a different guess limit, or the guesses are
+   *                                  out of bounds, repeated or not guessed in the game
+   */
+  public void record(BattleshipModel model, int[] guesses) {
+    if (model.getMaxGuesses() != maxGuesses) {
+      throw new IllegalArgumentException("Game allows a different number of guesses.");
+    }
+    GuessSequences.checkFinished(model, guesses);
+    recordUnchecked(model, guesses);
+  }
+
+  /**
+   * Records a finished game without checking it, for callers that played the game themselves and
+   * know the guesses are right, such as {@link GameSimulator}.
+   *
+   * @param model   the finished game, with the guess limit of these statistics
+   * @param guesses the distinct cells guessed, in order
+   */
+  void recordUnchecked(BattleshipModel model, int[] guesses) {
+    ShipType[][] shipGrid = model.getShipGrid();
+    int count = model.getGuessCount();
+
+    games++;
+    if (model.areAllShipsSunk()) {
+      wins++;
+    }
+    guessesToFinish[count]++;
+
+    Arrays.fill(seen, false);
+    int rank = 0;
+    for (int i = 0; i < count; i++) {
+      int cell = guesses[i];
+      ShipType ship = shipGrid[cell / GRID_SIZE][cell % GRID_SIZE];
+      if (ship == null) {
+        continue;
+      }
+      if (rank == 0) {
+        firstHits[cell]++;
+      }
+      if (!seen[ship.ordinal()]) {
+        seen[ship.ordinal()] = true;
+        hitOrder[ship.ordinal() * SHIP_TYPES + rank]++;
+        rank++;
+      }
+    }
+  }
+
+  /**
+   * Adds the counts of another instance to this one. The other instance is not modified.
+   *
+   * @param other the statistics to add
+   * @throws IllegalArgumentException if the other statistics are for a different guess limit
+   */
+  public void merge(GameStatistics other) {
+    if (other.maxGuesses != maxGuesses) {
+      throw new IllegalArgumentException("Statistics are for a different number of guesses.");
+    }
+    games += other.games;
+    wins += other.wins;
+    add(guessesToFinish, other.guessesToFinish);
+    add(firstHits, other.firstHits);
+    add(hitOrder, other.hitOrder);
+  }
+
+  /**
+   * Creates an independent copy of these statistics.
+   *
+   * @return a copy of these statistics
+   */
+  public GameStatistics copy() {
+    GameStatistics copy = new GameStatistics(maxGuesses);
+    copy.merge(this);
+    return copy;
+  }
+
+  /**
+   * Clears all counts.
+   */
+  public void reset() {
+    games = 0;
+    wins = 0;
+    Arrays.fill(guessesToFinish, 0);
+    Arrays.fill(firstHits, 0);
+    Arrays.fill(hitOrder, 0);
+  }
+
+  /**
+   * Gets the number of games recorded.
+   *
+   * @return the number of games
+   */
+  public long getGameCount() {
+    return games;
+  }
+
+  /**
+   * Gets the fraction of recorded games in which all ships were sunk.
+   *
+   * @return the win rate, or 0 if no games have been recorded
+   */
+  public double getWinRate() {
+    return games == 0 ? 0 : (double) wins / games;
+  }
+
+  /**
+   * Gets the distribution of the number of guesses made when games ended.
+   *
+   * @return an array where index {@code n} holds the number of games that ended after {@code n}
+   *         guesses
+   */
+  public long[] getGuessesToFinish() {
+    return guessesToFinish.clone();
+  }
+
+  /**
+   * Gets how often each cell was the first hit of a game.
+   *
+   * @return a 2D array holding the first-hit count of each cell
+   */
+  public long[][] getFirstHitCounts() {
+    long[][] counts = new long[GRID_SIZE][GRID_SIZE];
+    for (int i = 0; i < GRID_SIZE; i++) {
+      System.arraycopy(firstHits, i * GRID_SIZE, counts[i], 0, GRID_SIZE);
+    }
+    return counts;
+  }
+
+  /**
+   * Gets how often a ship type was the first, second, and so on, type of ship to be hit in a game.
+   *
+   * @param ship the ship type
+   * @return an array where index {@code k} holds the number of games in which the ship type was
+   *         the {@code k}-th (0-based) type to be hit
+   */
+  public long[] getHitOrder(ShipType ship) {
+    return Arrays.copyOfRange(hitOrder, ship.ordinal() * SHIP_TYPES,
+        (ship.ordinal() + 1) * SHIP_TYPES);
+  }
+
+  private static void add(long[] target, long[] source) {
+    for (int i = 0; i < target.length; i++) {
+      target[i] += source[i];
+    }
+  }
+}
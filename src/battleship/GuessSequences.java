@@ -0,0 +1,47 @@
+package battleship;
+
+/**
+ * Checks guess sequences handed in alongside finished games, as {@code row * 10 + col} cell
+ * indices in the order they were made.
+ */
+final class GuessSequences {
+  private static final int GRID_SIZE = 10;
+  private static final int CELLS = GRID_SIZE * GRID_SIZE;
+
+  private GuessSequences() {
+  }
+
+  /**
+   * Checks that a game is over and that the first {@link BattleshipModel#getGuessCount()} entries
+   * of the guesses are distinct cells the game shows as guessed.
+   *
+   * @param model   the game
+   * @param guesses the guessed cells, in order
+   * @throws IllegalStateException    if the game is not over
+   * @throws IllegalArgumentException if the guesses do not match the game
+   */
+  static void checkFinished(BattleshipModel model, int[] guesses) {
+    if (!model.isGameOver()) {
+      throw new IllegalStateException("Game is not over.");
+    }
+    int count = model.getGuessCount();
+    if (guesses.length < count) {
+      throw new IllegalArgumentException("Fewer guesses given than the game has made.");
+    }
+    CellState[][] grid = model.getCellGrid();
+    boolean[] seen = new boolean[CELLS];
+    for (int i = 0; i < count; i++) {
+      int cell = guesses[i];
+      if (cell < 0 || cell >= CELLS) {
+        throw new IllegalArgumentException("Guess out of bounds: " + cell);
+      }
+      if (seen[cell]) {
+        throw new IllegalArgumentException("Cell guessed twice: " + cell);
+      }
+      seen[cell] = true;
+      if (grid[cell / GRID_SIZE][cell % GRID_SIZE] == CellState.UNKNOWN) {
+        throw new IllegalArgumentException("Cell was not guessed in the game: " + cell);
+      }
+    }
+  }
+}
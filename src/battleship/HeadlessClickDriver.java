@@ -0,0 +1,69 @@
+package battleship;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Random;
+
+/**
+ * Drives a Battleship controller without a display by feeding it the same ActionEvents the Swing
+ * grid buttons would send. One event per cell is built up front and reused, so a click costs no
+ * more than the controller's own work.
+ */
+public class HeadlessClickDriver {
+  private static final int GRID_SIZE = 10;
+
+  private final ActionEvent[] clicks;
+  private final int[] order;
+  private final Random random;
+
+  /**
+   * Constructs a driver that clicks cells in a random order.
+   *
+   * @param random the source of randomness for the click order
+   */
+  public HeadlessClickDriver(Random random) {
+    this.random = random;
+    clicks = new ActionEvent[GRID_SIZE * GRID_SIZE];
+    order = new int[GRID_SIZE * GRID_SIZE];
+    for (int i = 0; i < clicks.length; i++) {
+      String command = (i / GRID_SIZE) + "," + (i % GRID_SIZE);
+      clicks[i] = new ActionEvent(this, ActionEvent.ACTION_PERFORMED, command);
+      order[i] = i;
+    }
+  }
+
+  /**
+   * Sends a single click on the given cell to the listener.
+   *
+   * @param listener the listener to click, usually a {@link SwingBattleshipController}
+   * @param row      the row index (0-based)
+   * @param col      the column index (0-based)
+   * @throws IllegalArgumentException if the coordinates are out of bounds
+   */
+  public void click(ActionListener listener, int row, int col) {
+    if (row < 0 || row >= GRID_SIZE || col < 0 || col >= GRID_SIZE) {
+      throw new IllegalArgumentException("Coordinates out of bounds.");
+    }
+    listener.actionPerformed(clicks[row * GRID_SIZE + col]);
+  }
+
+  /**
+   * Clicks distinct cells in a random order until the model reports the game is over.
+   *
+   * @param listener the listener to click, usually a {@link SwingBattleshipController}
+   * @param model    the model behind the listener, used to detect the end of the game
+   * @return the number of clicks sent
+   */
+  public int playToEnd(ActionListener listener, BattleshipModel model) {
+    int clicked = 0;
+    for (int i = order.length - 1; i >= 0 && !model.isGameOver(); i--) {
+      int pick = random.nextInt(i + 1);
+      int cell = order[pick];
+      order[pick] = order[i];
+      order[i] = cell;
+      listener.actionPerformed(clicks[cell]);
+      clicked++;
+    }
+    return clicked;
+  }
+}
@@ -0,0 +1,341 @@
+package battleship;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Broadcasts the moves of a game to any number of spectators. The single writer, usually a
+ * {@link BroadcastingBattleshipModel}, appends each move to a ring buffer and never waits for
+ * readers. Each {@link Subscription} reads at its own pace in batches; a subscriber that falls so
+ * far behind that the ring has wrapped past it is told so and catches up from a {@link Snapshot}
+ * of the board instead of the missed moves. A new subscriber also starts from a snapshot, so it
+ * can join in the middle of a game.
+ *
+ * <p>There is no backpressure: the writer never waits for a slow subscriber, so the player is
+ * never held up by spectators. Once a subscriber falls more than the capacity behind, the moves it
+ * has not read are lost to it. {@link Subscription#poll} returns -1 and the subscriber must
+ * {@link Subscription#resync()} to the latest snapshot. The capacity sets how far behind a
+ * subscriber may fall before that happens.
+ *
+ * <p>Each move is packed into one long, which the static methods of this class decode: the cell
+ * in bits 0-6, the hit flag in bit 7, the game-over flag in bit 8, the all-ships-sunk flag in bit
+ * 9, the guess count in bits 10-17 and the move's sequence number in the remaining bits. The start
+ * of a new game is sent as a move on cell {@value #NEW_GAME}.
+ */
+public class MoveBroadcaster {
+  /**
+   * The cell value of the move sent when a new game starts.
+   */
+  public static final int NEW_GAME = 0x7F;
+
+  private static final int GRID_SIZE = PlacementMasks.GRID_SIZE;
+  private static final long HIT = 1L << 7;
+  private static final long OVER = 1L << 8;
+  private static final long SUNK = 1L << 9;
+  private static final int COUNT_SHIFT = 10;
+  private static final int SEQUENCE_SHIFT = 18;
+
+  private final AtomicLongArray ring;
+  private final int mask;
+  private final AtomicLong published;
+  private volatile Snapshot snapshot;
+
+  // writer-side board state, only touched by the writer thread
+  private long guessedLow;
+  private long guessedHigh;
+  private long hitLow;
+  private long hitHigh;
+
+  /**
+   * Constructs a broadcaster.
+   *
+   * @param capacity the number of moves kept for subscribers that fall behind, rounded up to a
+   *                 power of two
+   * @throws IllegalArgumentException if the capacity is not positive or too large
+   */
+  public MoveBroadcaster(int capacity) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    ring = new AtomicLongArray(size);
+    mask = size - 1;
+    published = new AtomicLong();
+    snapshot = new Snapshot(0, 0, 0, 0, 0, 0, false, false);
+  }
+
+  /**
+   * Announces the start of a new game and clears the board. Must only be called by the writer.
+   */
+  public void startGame() {
+    guessedLow = 0;
+    guessedHigh = 0;
+    hitLow = 0;
+    hitHigh = 0;
+    append(NEW_GAME, false, 0, false, false);
+  }
+
+  /**
+   * Broadcasts a move. Must only be called by the writer, once per successful guess.
+   *
+   * @param row        the row index of the guess
+   * @param col        the column index of the guess
+   * @param hit        whether the guess was a hit
+   * @param guessCount the number of guesses made, including this one
+   * @param gameOver   whether the game is over after this guess
+   * @param allSunk    whether all ships are sunk after this guess
+   * @throws IllegalArgumentException if the coordinates are out of bounds
+   */
+  public void publish(int row, int col, boolean hit, int guessCount, boolean gameOver,
+                      boolean allSunk) {
+    if (row < 0 || row >= GRID_SIZE || col < 0 || col >= GRID_SIZE) {
+      throw new IllegalArgumentException("Coordinates out of bounds.");
+    }
+    int cell = row * GRID_SIZE + col;
+    long bit = 1L << (cell & 63);
+    if (cell < 64) {
+      guessedLow |= bit;
+      hitLow |= hit ? bit : 0;
+    } else {
+      guessedHigh |= bit;
+      hitHigh |= hit ? bit : 0;
+    }
+    append(cell, hit, guessCount, gameOver, allSunk);
+  }
+
+  private void append(int cell, boolean hit, int guessCount, boolean gameOver, boolean allSunk) {
+    long sequence = published.get() + 1;
+    long move = cell | (hit ? HIT : 0) | (gameOver ? OVER : 0) | (allSunk ? SUNK : 0)
+        | (long) (guessCount & 0xFF) << COUNT_SHIFT | sequence << SEQUENCE_SHIFT;
+    ring.lazySet((int) (sequence & mask), move);
+    published.lazySet(sequence);
+    snapshot = new Snapshot(sequence, guessedLow, guessedHigh, hitLow, hitHigh, guessCount,
+        gameOver, allSunk);
+  }
+
+  /**
+   * Gets the state of the board after the latest move.
+   *
+   * @return the latest snapshot
+   */
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Subscribes to the moves made from now on. May be called from any thread.
+   *
+   * @return a new subscription, starting at the latest snapshot
+   */
+  public Subscription subscribe() {
+    return new Subscription();
+  }
+
+  /**
+   * Gets the cell of a move.
+   *
+   * @param move the packed move
+   * @return the cell index {@code row * 10 + col}, or {@link #NEW_GAME} for the start of a game
+   */
+  public static int cellOf(long move) {
+    return (int) (move & 0x7F);
+  }
+
+  /**
+   * Checks if a move was a hit.
+   *
+   * @param move the packed move
+   * @return true if the guess was a hit
+   */
+  public static boolean isHit(long move) {
+    return (move & HIT) != 0;
+  }
+
+  /**
+   * Checks if the game was over after a move.
+   *
+   * @param move the packed move
+   * @return true if the game was over
+   */
+  public static boolean isGameOver(long move) {
+    return (move & OVER) != 0;
+  }
+
+  /**
+   * Checks if all ships were sunk after a move.
+   *
+   * @param move the packed move
+   * @return true if all ships were sunk
+   */
+  public static boolean areAllShipsSunk(long move) {
+    return (move & SUNK) != 0;
+  }
+
+  /**
+   * Gets the number of guesses made, including a move.
+   *
+   * @param move the packed move
+   * @return the guess count
+   */
+  public static int guessCountOf(long move) {
+    return (int) (move >>> COUNT_SHIFT & 0xFF);
+  }
+
+  /**
+   * Gets the sequence number of a move. Moves are numbered from 1 in the order they were made.
+   *
+   * @param move the packed move
+   * @return the sequence number
+   */
+  public static long sequenceOf(long move) {
+    return move >>> SEQUENCE_SHIFT;
+  }
+
+  /**
+   * One spectator's view of the broadcast. A subscription must only be used by one thread at a
+   * time.
+   */
+  public final class Subscription {
+    private long cursor;
+    private Snapshot start;
+
+    private Subscription() {
+      resync();
+    }
+
+    /**
+     * Gets the snapshot this subscription started from, or last caught up to.
+     *
+     * @return the snapshot
+     */
+    public Snapshot getSnapshot() {
+      return start;
+    }
+
+    /**
+     * Copies the moves made since the last poll, oldest first, up to the size of the batch.
+     *
+     * @param batch receives the packed moves
+     * @return the number of moves copied, or -1 if moves were missed because this subscriber fell
+     *         too far behind; call {@link #resync()} to catch up
+     */
+    public int poll(long[] batch) {
+      long available = published.get() - cursor;
+      if (available > ring.length()) {
+        return -1;
+      }
+      int count = (int) Math.min(available, batch.length);
+      for (int i = 0; i < count; i++) {
+        long expected = cursor + 1 + i;
+        long move = ring.get((int) (expected & mask));
+        if (sequenceOf(move) != expected) {
+          // the writer has wrapped around and overwritten this move while we were reading
+          return -1;
+        }
+        batch[i] = move;
+      }
+      cursor += count;
+      return count;
+    }
+
+    /**
+     * Skips any unread moves and catches up to the latest snapshot.
+     *
+     * @return the snapshot caught up to
+     */
+    public Snapshot resync() {
+      start = snapshot;
+      cursor = start.getSequence();
+      return start;
+    }
+  }
+
+  /**
+   * The state of the board after a given move, as seen by spectators. Snapshots are immutable.
+   */
+  public static final class Snapshot {
+    private final long sequence;
+    private final long guessedLow;
+    private final long guessedHigh;
+    private final long hitLow;
+    private final long hitHigh;
+    private final int guessCount;
+    private final boolean gameOver;
+    private final boolean allSunk;
+
+    private Snapshot(long sequence, long guessedLow, long guessedHigh, long hitLow, long hitHigh,
+                     int guessCount, boolean gameOver, boolean allSunk) {
+      this.sequence = sequence;
+      this.guessedLow = guessedLow;
+      this.guessedHigh = guessedHigh;
+      this.hitLow = hitLow;
+      this.hitHigh = hitHigh;
+      this.guessCount = guessCount;
+      this.gameOver = gameOver;
+      this.allSunk = allSunk;
+    }
+
+    /**
+     * Gets the sequence number of the last move included in this snapshot.
+     *
+     * @return the sequence number, or 0 if no moves had been made
+     */
+    public long getSequence() {
+      return sequence;
+    }
+
+    /**
+     * Gets the number of guesses made.
+     *
+     * @return the guess count
+     */
+    public int getGuessCount() {
+      return guessCount;
+    }
+
+    /**
+     * Checks if the game was over.
+     *
+     * @return true if the game was over
+     */
+    public boolean isGameOver() {
+      return gameOver;
+    }
+
+    /**
+     * Checks if all ships were sunk.
+     *
+     * @return true if all ships were sunk
+     */
+    public boolean areAllShipsSunk() {
+      return allSunk;
+    }
+
+    /**
+     * Builds the cell grid as a player would see it.
+     *
+     * @return a new 2D array holding the state of each cell
+     */
+    public CellState[][] getCellGrid() {
+      CellState[][] grid = new CellState[GRID_SIZE][GRID_SIZE];
+      for (int cell = 0; cell < GRID_SIZE * GRID_SIZE; cell++) {
+        long bit = 1L << (cell & 63);
+        long guessed = cell < 64 ? guessedLow : guessedHigh;
+        long hits = cell < 64 ? hitLow : hitHigh;
+        CellState state;
+        if ((guessed & bit) == 0) {
+          state = CellState.UNKNOWN;
+        } else if ((hits & bit) != 0) {
+          state = CellState.HIT;
+        } else {
+          state = CellState.MISS;
+        }
+        grid[cell / GRID_SIZE][cell % GRID_SIZE] = state;
+      }
+      return grid;
+    }
+  }
+}
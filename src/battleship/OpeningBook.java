@@ -0,0 +1,130 @@
+package battleship;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed opening guesses, built by {@link OpeningBookBuilder}. As long as every guess so far
+ * was taken from the book, the next guess depends only on which of them were hits, and is found
+ * by walking one node per guess. The book file is memory-mapped on the first lookup, so creating
+ * a book costs nothing until it is used. A book only gives advice for the fleet it was built
+ * for. Books are safe to share between threads.
+ */
+public class OpeningBook {
+  private final Path path;
+  private final Fleet fleet;
+  private volatile MappedByteBuffer nodes;
+  private int depth;
+  private int nodeCount;
+
+  /**
+   * Constructs a book for the standard fleet backed by the given file. The file is not read until
+   * the first lookup.
+   *
+   * @param path the book file
+   */
+  public OpeningBook(Path path) {
+    this(path, Fleet.standard());
+  }
+
+  /**
+   * Constructs a book backed by the given file. The file is not read until the first lookup.
+   *
+   * @param path  the book file
+   * @param fleet the fleet the book must have been built for
+   */
+  public OpeningBook(Path path, Fleet fleet) {
+    this.path = path;
+    this.fleet = fleet;
+  }
+
+  /**
+   * Finds the next guess after a sequence of book guesses.
+   *
+   * @param outcomes whether each guess so far was a hit
+   * @param count    the number of guesses so far
+   * @return the cell to guess next as {@code row * 10 + col}, or -1 if the book has no entry for
+   *         this sequence
+   * @throws UncheckedIOException     if the book file cannot be read
+   * @throws IllegalArgumentException if the book file is malformed or built for another fleet
+   */
+  public int nextGuess(boolean[] outcomes, int count) {
+    MappedByteBuffer buffer = nodes();
+    if (nodeCount == 0 || count >= depth) {
+      return -1;
+    }
+    int node = 0;
+    for (int i = 0; i < count; i++) {
+      int offset = OpeningBookBuilder.HEADER_BYTES + node * OpeningBookBuilder.NODE_BYTES;
+      if (outcomes[i]) {
+        boolean hasHit = (buffer.get(offset + OpeningBookBuilder.FLAGS)
+            & OpeningBookBuilder.HAS_HIT_CHILD) != 0;
+        node = hasHit ? node + 1 : 0;
+      } else {
+        node = buffer.getInt(offset + OpeningBookBuilder.MISS_CHILD);
+      }
+      if (node <= 0 || node >= nodeCount) {
+        return -1;
+      }
+    }
+    return buffer.get(OpeningBookBuilder.HEADER_BYTES + node * OpeningBookBuilder.NODE_BYTES)
+        & 0xFF;
+  }
+
+  /**
+   * Gets the number of guesses the book covers.
+   *
+   * @return the depth of the book
+   * @throws UncheckedIOException     if the book file cannot be read
+   * @throws IllegalArgumentException if the book file is malformed or built for another fleet
+   */
+  public int getDepth() {
+    nodes();
+    return depth;
+  }
+
+  private MappedByteBuffer nodes() {
+    MappedByteBuffer buffer = nodes;
+    if (buffer == null) {
+      synchronized (this) {
+        buffer = nodes;
+        if (buffer == null) {
+          buffer = map();
+          nodes = buffer;
+        }
+      }
+    }
+    return buffer;
+  }
+
+  // called once, before the buffer is published, so the plain fields are safely visible after
+  private MappedByteBuffer map() {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < OpeningBookBuilder.HEADER_BYTES || size > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Not an opening book: " + path);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt(0) != OpeningBookBuilder.MAGIC
+          || buffer.getInt(4) != OpeningBookBuilder.VERSION) {
+        throw new IllegalArgumentException("Not an opening book: " + path);
+      }
+      if (buffer.getLong(16) != fleet.fingerprint()) {
+        throw new IllegalArgumentException("Opening book is for a different fleet: " + path);
+      }
+      depth = buffer.getInt(8);
+      nodeCount = buffer.getInt(12);
+      if (nodeCount < 0 || size < OpeningBookBuilder.HEADER_BYTES
+          + (long) nodeCount * OpeningBookBuilder.NODE_BYTES) {
+        throw new IllegalArgumentException("Truncated opening book: " + path);
+      }
+      return buffer;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package battleship;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Precomputes an {@link OpeningBook}. The builder samples many random layouts of a fleet and
+ * follows every sequence of HIT/MISS outcomes up to a given depth. At each point it picks the cell
+ * most likely to hold a ship that has not been hit yet among the layouts that agree with the
+ * outcomes so far. Sequences that too few sampled layouts agree with are left out of the book.
+ *
+ * <p>The book starts with a header holding the depth, the number of nodes and a fingerprint of the
+ * fleet, so that a book is never used with a fleet it was not built for. It is followed by a
+ * binary tree stored in preorder, one fixed-width record per node: the cell to guess, a flags
+ * byte, then the index of the node to go to after a miss (0 when there is no entry, since the root
+ * is never a child). In preorder the node after a hit always comes right after its parent, so
+ * only a flag records whether it exists.
+ */
+public class OpeningBookBuilder {
+  static final int MAGIC = 0x4253424B; // "BSBK"
+  static final int VERSION = 2;
+  static final int HEADER_BYTES = 24;
+  static final int NODE_BYTES = 6;
+  static final int FLAGS = 1;
+  static final int MISS_CHILD = 2;
+  static final byte HAS_HIT_CHILD = 1;
+
+  private static final int CELLS = PlacementMasks.CELLS;
+
+  private final Fleet fleet;
+  private final int depth;
+  private final int minSamples;
+
+  private long[] ships;
+  private int[] order;
+  private int[] counts;
+
+  private byte[] cells;
+  private byte[] flags;
+  private int[] missChild;
+  private int nodeCount;
+
+  /**
+   * Constructs a builder.
+   *
+   * @param fleet      the fleet the book is for, usually {@link Fleet#standard()}
+   * @param depth      the number of guesses the book covers
+   * @param minSamples the least number of agreeing layouts a sequence needs to get an entry
+   * @throws IllegalArgumentException if the depth or the minimum number of samples is not positive
+   */
+  public OpeningBookBuilder(Fleet fleet, int depth, int minSamples) {
+    if (depth <= 0 || depth > CELLS || minSamples <= 0) {
+      throw new IllegalArgumentException("Depth and minimum samples must be positive.");
+    }
+    this.fleet = fleet;
+    this.depth = depth;
+    this.minSamples = minSamples;
+  }
+
+  /**
+   * Builds the book from random layouts and writes it to a file.
+   *
+   * @param path    the file to write
+   * @param samples the number of layouts to sample
+   * @param random  the source of randomness for the layouts
+   * @return the number of entries in the book
+   * @throws IOException              if the file cannot be written
+   * @throws IllegalArgumentException if the number of samples is not positive
+   */
+  public int build(Path path, int samples, Random random) throws IOException {
+    if (samples <= 0) {
+      throw new IllegalArgumentException("Number of samples must be positive.");
+    }
+    int stride = 2 * fleet.size();
+    ships = new long[samples * stride];
+    long[] placed = new long[stride];
+    for (int s = 0; s < samples; s++) {
+      fleet.placeRandomly(random, placed);
+      System.arraycopy(placed, 0, ships, s * stride, stride);
+    }
+    order = new int[samples];
+    for (int s = 0; s < samples; s++) {
+      order[s] = s;
+    }
+    counts = new int[CELLS];
+    cells = new byte[1024];
+    flags = new byte[1024];
+    missChild = new int[1024];
+    nodeCount = 0;
+
+    buildNode(0, samples, 0, 0, 0, 0, 0);
+    write(path);
+
+    int entries = nodeCount;
+    ships = null;
+    order = null;
+    cells = null;
+    flags = null;
+    missChild = null;
+    return entries;
+  }
+
+  /**
+   * Adds the node for the layouts in {@code order[from, to)}, which all agree with the outcomes so
+   * far, and returns its index, or 0 if the sequence gets no entry.
+   */
+  private int buildNode(int from, int to, int level, long guessedLow, long guessedHigh,
+                        long hitLow, long hitHigh) {
+    if (level == depth || to - from < minSamples) {
+      return 0;
+    }
+
+    // count, per cell, the layouts with a ship there that has not been hit yet
+    Arrays.fill(counts, 0);
+    int stride = 2 * fleet.size();
+    for (int i = from; i < to; i++) {
+      int base = order[i] * stride;
+      long afloatLow = 0;
+      long afloatHigh = 0;
+      for (int ship = 0; ship < fleet.size(); ship++) {
+        long low = ships[base + 2 * ship];
+        long high = ships[base + 2 * ship + 1];
+        if ((low & hitLow) == 0 && (high & hitHigh) == 0) {
+          afloatLow |= low;
+          afloatHigh |= high;
+        }
+      }
+      afloatLow &= ~guessedLow;
+      afloatHigh &= ~guessedHigh;
+      while (afloatLow != 0) {
+        counts[Long.numberOfTrailingZeros(afloatLow)]++;
+        afloatLow &= afloatLow - 1;
+      }
+      while (afloatHigh != 0) {
+        counts[64 + Long.numberOfTrailingZeros(afloatHigh)]++;
+        afloatHigh &= afloatHigh - 1;
+      }
+    }
+    int best = -1;
+    for (int cell = 0; cell < CELLS; cell++) {
+      boolean guessed = cell < 64 ? (guessedLow & 1L << cell) != 0
+          : (guessedHigh & 1L << (cell - 64)) != 0;
+      if (!guessed && (best < 0 || counts[cell] > counts[best])) {
+        best = cell;
+      }
+    }
+    if (best < 0) {
+      return 0;
+    }
+
+    int node = addNode(best);
+    long bitLow = best < 64 ? 1L << best : 0;
+    long bitHigh = best < 64 ? 0 : 1L << (best - 64);
+
+    // move the layouts with a ship on the chosen cell to the front
+    int split = from;
+    for (int i = from; i < to; i++) {
+      if (occupied(order[i], bitLow, bitHigh)) {
+        int swap = order[split];
+        order[split] = order[i];
+        order[i] = swap;
+        split++;
+      }
+    }
+    int hit = buildNode(from, split, level + 1, guessedLow | bitLow, guessedHigh | bitHigh,
+        hitLow | bitLow, hitHigh | bitHigh);
+    if (hit != 0) {
+      // built right after its parent, so it is always node + 1
+      flags[node] = HAS_HIT_CHILD;
+    }
+    int miss = buildNode(split, to, level + 1, guessedLow | bitLow, guessedHigh | bitHigh,
+        hitLow, hitHigh);
+    missChild[node] = miss;
+    return node;
+  }
+
+  private boolean occupied(int sample, long bitLow, long bitHigh) {
+    int base = sample * 2 * fleet.size();
+    for (int ship = 0; ship < fleet.size(); ship++) {
+      if ((ships[base + 2 * ship] & bitLow) != 0 || (ships[base + 2 * ship + 1] & bitHigh) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int addNode(int cell) {
+    if (nodeCount == cells.length) {
+      cells = Arrays.copyOf(cells, 2 * nodeCount);
+      flags = Arrays.copyOf(flags, 2 * nodeCount);
+      missChild = Arrays.copyOf(missChild, 2 * nodeCount);
+    }
+    cells[nodeCount] = (byte) cell;
+    return nodeCount++;
+  }
+
+  private void write(Path path) throws IOException {
+    try (OutputStream file = Files.newOutputStream(path);
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(depth);
+      out.writeInt(nodeCount);
+      out.writeLong(fleet.fingerprint());
+      for (int node = 0; node < nodeCount; node++) {
+        out.writeByte(cells[node]);
+        out.writeByte(flags[node]);
+        out.writeInt(missChild[node]);
+      }
+    }
+  }
+}
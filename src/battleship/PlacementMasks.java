@@ -0,0 +1,127 @@
+package battleship;
+
+import java.util.Arrays;
+
+/**
+ * Every way a ship of a given length can be placed on the 10x10 board, as bit masks. A board cell
+ * {@code row * 10 + col} is bit {@code cell} of the low word when it is below 64, and bit
+ * {@code cell - 64} of the high word otherwise. Instances are immutable and safe to share between
+ * threads and games.
+ */
+public final class PlacementMasks {
+  /**
+   * The number of rows and columns of the board the masks are built for.
+   */
+  public static final int GRID_SIZE = 10;
+
+  /**
+   * The number of cells of the board the masks are built for.
+   */
+  public static final int CELLS = GRID_SIZE * GRID_SIZE;
+
+  private final int length;
+  private final long[] low;
+  private final long[] high;
+
+  /**
+   * Builds the placement masks for ships of the given length.
+   *
+   * @param length the ship length
+   * @throws IllegalArgumentException if the length does not fit on the board
+   */
+  public PlacementMasks(int length) {
+    if (length < 1 || length > GRID_SIZE) {
+      throw new IllegalArgumentException("Ship length must be between 1 and " + GRID_SIZE + ".");
+    }
+    this.length = length;
+    int along = GRID_SIZE - length + 1;
+    // a ship of length 1 looks the same either way, so only count it once
+    int count = (length == 1 ? 1 : 2) * GRID_SIZE * along;
+    low = new long[count];
+    high = new long[count];
+
+    int index = 0;
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int col = 0; col < along; col++) {
+        for (int i = 0; i < length; i++) {
+          set(index, row * GRID_SIZE + col + i);
+        }
+        index++;
+      }
+    }
+    if (length > 1) {
+      for (int row = 0; row < along; row++) {
+        for (int col = 0; col < GRID_SIZE; col++) {
+          for (int i = 0; i < length; i++) {
+            set(index, (row + i) * GRID_SIZE + col);
+          }
+          index++;
+        }
+      }
+    }
+  }
+
+  private void set(int index, int cell) {
+    if (cell < 64) {
+      low[index] |= 1L << cell;
+    } else {
+      high[index] |= 1L << (cell - 64);
+    }
+  }
+
+  /**
+   * Gets the ship length these masks are for.
+   *
+   * @return the ship length
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Gets the number of placements.
+   *
+   * @return the number of placements
+   */
+  public int size() {
+    return low.length;
+  }
+
+  /**
+   * Gets the low word (cells 0-63) of a placement.
+   *
+   * @param index the placement index
+   * @return the low word of the placement mask
+   */
+  public long low(int index) {
+    return low[index];
+  }
+
+  /**
+   * Gets the high word (cells 64-99) of a placement.
+   *
+   * @param index the placement index
+   * @return the high word of the placement mask
+   */
+  public long high(int index) {
+    return high[index];
+  }
+
+  /**
+   * Gets a copy of the low words of all placements.
+   *
+   * @return the low words, indexed by placement
+   */
+  public long[] lows() {
+    return Arrays.copyOf(low, low.length);
+  }
+
+  /**
+   * Gets a copy of the high words of all placements.
+   *
+   * @return the high words, indexed by placement
+   */
+  public long[] highs() {
+    return Arrays.copyOf(high, high.length);
+  }
+}
@@ -0,0 +1,199 @@
+package battleship;
+
+import java.util.Arrays;
+
+/**
+ * Counts, for a batch of boards at once, how many ship placements still fit over each cell. A
+ * placement fits a board if it covers none of the board's guessed cells: misses rule it out, and
+ * since a single hit sinks a ship in this game, a placement over a hit belongs to a ship that is
+ * already sunk. Strategies guess the cell with the highest count; guessed cells always count 0.
+ *
+ * <p>Boards are given as bit masks in the layout of {@link PlacementMasks}, one array per word,
+ * and the counts are written cell by cell with all boards of a cell next to each other. Each
+ * placement is tested against a tile of boards in one pass, and the per-cell additions run over
+ * consecutive boards so they stay in cache.
+ *
+ * <p>This class is the scalar kernel, working on plain words. {@link #create(Fleet)} picks a kernel
+ * written with the Vector API instead when the {@code jdk.incubator.vector} module is present,
+ * that is when the program runs with {@code --add-modules jdk.incubator.vector}. Both kernels give
+ * the same scores.
+ */
+public class PlacementScorer {
+  static final int TILE = 1024;
+
+  private static final int CELLS = PlacementMasks.CELLS;
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+  private static final String VECTOR_SCORER = "battleship.VectorPlacementScorer";
+
+  private final PlacementMasks[] masks;
+  private final int[] multiplicity;
+  // scratch space for the weights of one tile, shared with subclass kernels
+  final int[] weights;
+
+  /**
+   * Constructs a scorer for the ships of the given fleet.
+   *
+   * @param fleet the fleet the boards are played with
+   */
+  public PlacementScorer(Fleet fleet) {
+    PlacementMasks[] byLength = new PlacementMasks[PlacementMasks.GRID_SIZE + 1];
+    int[] counts = new int[PlacementMasks.GRID_SIZE + 1];
+    int distinct = 0;
+    for (int ship = 0; ship < fleet.size(); ship++) {
+      int length = fleet.getLength(ship);
+      if (byLength[length] == null) {
+        byLength[length] = fleet.getPlacementMasks(ship);
+        distinct++;
+      }
+      counts[length]++;
+    }
+    masks = new PlacementMasks[distinct];
+    multiplicity = new int[distinct];
+    int next = 0;
+    for (int length = 1; length < byLength.length; length++) {
+      if (byLength[length] != null) {
+        masks[next] = byLength[length];
+        multiplicity[next] = counts[length];
+        next++;
+      }
+    }
+    weights = new int[TILE];
+  }
+
+  /**
+   * Creates the fastest scorer available for the ships of the given fleet: the Vector API kernel
+   * if the {@code jdk.incubator.vector} module is present, otherwise this scalar kernel.
+   *
+   * @param fleet the fleet the boards are played with
+   * @return a new scorer
+   */
+  public static PlacementScorer create(Fleet fleet) {
+    if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+      try {
+        // loaded by name, so this class never links against the incubator module
+        return (PlacementScorer) Class.forName(VECTOR_SCORER)
+            .getDeclaredConstructor(Fleet.class).newInstance(fleet);
+      } catch (ReflectiveOperationException | LinkageError e) {
+        // the module is there but unusable, so fall back to the scalar kernel
+      }
+    }
+    return new PlacementScorer(fleet);
+  }
+
+  /**
+   * Scores a batch of boards. A scorer keeps scratch space, so it must only be used by one thread
+   * at a time.
+   *
+   * @param guessedLow  the low words of each board's guessed cells
+   * @param guessedHigh the high words of each board's guessed cells
+   * @param count       the number of boards in the batch
+   * @param scores      receives the score of cell {@code c} of board {@code b} at
+   *                    {@code c * count + b}; must hold at least {@code 100 * count} entries
+   * @throws IllegalArgumentException if an array is too small for the batch
+   */
+  public void score(long[] guessedLow, long[] guessedHigh, int count, int[] scores) {
+    if (count < 0 || count > Integer.MAX_VALUE / CELLS || guessedLow.length < count
+        || guessedHigh.length < count || scores.length < CELLS * count) {
+      throw new IllegalArgumentException("Arrays are too small for the batch.");
+    }
+    Arrays.fill(scores, 0, CELLS * count, 0);
+
+    for (int start = 0; start < count; start += TILE) {
+      int end = Math.min(count, start + TILE);
+      for (int m = 0; m < masks.length; m++) {
+        scoreTile(masks[m], multiplicity[m], guessedLow, guessedHigh, start, end, count, scores);
+      }
+    }
+  }
+
+  /**
+   * Adds the placements of one ship length to the scores of the boards from {@code start} to
+   * {@code end}, which are at most {@link #TILE} boards apart.
+   *
+   * @param options     the placements of the length
+   * @param ships       the number of ships of the length
+   * @param guessedLow  the low words of each board's guessed cells
+   * @param guessedHigh the high words of each board's guessed cells
+   * @param start       the first board of the tile
+   * @param end         the board after the last board of the tile
+   * @param count       the number of boards in the batch
+   * @param scores      the scores of the batch
+   */
+  void scoreTile(PlacementMasks options, int ships, long[] guessedLow, long[] guessedHigh,
+                 int start, int end, int count, int[] scores) {
+    int[] weights = this.weights;
+    int size = end - start;
+    for (int p = 0; p < options.size(); p++) {
+      long low = options.low(p);
+      long high = options.high(p);
+
+      boolean any = false;
+      for (int b = 0; b < size; b++) {
+        boolean fits = ((guessedLow[start + b] & low) | (guessedHigh[start + b] & high)) == 0;
+        weights[b] = fits ? ships : 0;
+        any |= fits;
+      }
+      if (!any) {
+        continue;
+      }
+
+      while (low != 0) {
+        addWeights(scores, Long.numberOfTrailingZeros(low) * count + start, size);
+        low &= low - 1;
+      }
+      while (high != 0) {
+        addWeights(scores, (64 + Long.numberOfTrailingZeros(high)) * count + start, size);
+        high &= high - 1;
+      }
+    }
+  }
+
+  private void addWeights(int[] scores, int offset, int size) {
+    int[] weights = this.weights;
+    for (int b = 0; b < size; b++) {
+      scores[offset + b] += weights[b];
+    }
+  }
+
+  /**
+   * Finds the cell with the highest score on one board of a scored batch.
+   *
+   * @param scores the scores written by {@link #score}
+   * @param count  the number of boards in the batch
+   * @param board  the board within the batch
+   * @return the cell index {@code row * 10 + col} with the highest score, or -1 if every cell
+   *         scores 0
+   */
+  public static int bestCell(int[] scores, int count, int board) {
+    int best = -1;
+    int bestScore = 0;
+    for (int cell = 0; cell < CELLS; cell++) {
+      int score = scores[cell * count + board];
+      if (score > bestScore) {
+        best = cell;
+        bestScore = score;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Copies the guessed-cell masks of consecutive boards of an arena into the arrays taken by
+   * {@link #score}.
+   *
+   * @param cursor      a cursor over the arena; it is left at the last board copied
+   * @param first       the index of the first board to copy
+   * @param count       the number of boards to copy
+   * @param guessedLow  receives the low words of each board's guessed cells
+   * @param guessedHigh receives the high words of each board's guessed cells
+   * @throws IndexOutOfBoundsException if the boards are outside the arena
+   */
+  public static void gather(BoardCursor cursor, long first, int count, long[] guessedLow,
+                            long[] guessedHigh) {
+    for (int b = 0; b < count; b++) {
+      cursor.moveTo(first + b);
+      guessedLow[b] = cursor.guessedWord(0);
+      guessedHigh[b] = cursor.guessedWord(1);
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package battleship;
+
+import java.awt.event.ActionListener;
+import java.util.Arrays;
+
+/**
+ * A headless view for the Battleship game that needs no display. Instead of drawing anything, it
+ * records every call it receives into a fixed-size ring buffer so controllers can be driven and
+ * checked on machines without AWT. Each call is packed into a single long; status messages are
+ * kept by reference in a parallel array. Once the buffer is full the oldest records are
+ * overwritten.
+ */
+public class RecordingBattleshipView implements BattleshipView {
+
+  /**
+   * The view calls that can be recorded.
+   */
+  public enum Call {
+    UPDATE_CELL,
+    UPDATE_MOVES,
+    UPDATE_STATUS,
+    DISABLE_GRID,
+    REVEAL_SHIPS
+  }
+
+  private static final Call[] CALLS = Call.values();
+  private static final CellState[] STATES = CellState.values();
+
+  // record layout: call in bits 0-7, row in bits 8-15, col in bits 16-23, value in bits 32-63
+  private static final int ROW_SHIFT = 8;
+  private static final int COL_SHIFT = 16;
+  private static final int VALUE_SHIFT = 32;
+  private static final long BYTE_MASK = 0xFFL;
+
+  private final long[] records;
+  private final String[] messages;
+  private final int mask;
+
+  private long recorded;
+  private ActionListener listener;
+  private ShipType[][] revealedShips;
+
+  /**
+   * Constructs a recording view that keeps the most recent calls.
+   *
+   * @param capacity the number of calls to keep, rounded up to a power of two
+   * @throws IllegalArgumentException if the capacity is not positive or too large
+   */
+  public RecordingBattleshipView(int capacity) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    records = new long[size];
+    messages = new String[size];
+    mask = size - 1;
+  }
+
+  @Override
+  public void addGridButtonListener(ActionListener listener) {
+    this.listener = listener;
+  }
+
+  @Override
+  public void updateCell(int row, int col, CellState state) {
+    record(Call.UPDATE_CELL, row, col, state.ordinal(), null);
+  }
+
+  @Override
+  public void updateMoves(int remainingMoves) {
+    record(Call.UPDATE_MOVES, 0, 0, remainingMoves, null);
+  }
+
+  @Override
+  public void updateStatus(String message) {
+    record(Call.UPDATE_STATUS, 0, 0, 0, message);
+  }
+
+  @Override
+  public void disableGrid() {
+    record(Call.DISABLE_GRID, 0, 0, 0, null);
+  }
+
+  @Override
+  public void revealShips(ShipType[][] shipGrid) {
+    revealedShips = shipGrid;
+    record(Call.REVEAL_SHIPS, 0, 0, 0, null);
+  }
+
+  private void record(Call call, int row, int col, int value, String message) {
+    int slot = (int) (recorded & mask);
+    records[slot] = call.ordinal()
+        | (row & BYTE_MASK) << ROW_SHIFT
+        | (col & BYTE_MASK) << COL_SHIFT
+        | (long) value << VALUE_SHIFT;
+    messages[slot] = message;
+    recorded++;
+  }
+
+  /**
+   * Gets the listener registered by the controller, or null if none has been registered.
+   *
+   * @return the grid button listener
+   */
+  public ActionListener getGridButtonListener() {
+    return listener;
+  }
+
+  /**
+   * Gets the ship grid passed to the last call of {@link #revealShips(ShipType[][])}.
+   *
+   * @return the revealed ship grid, or null if ships have not been revealed
+   */
+  public ShipType[][] getRevealedShips() {
+    return revealedShips;
+  }
+
+  /**
+   * Gets the total number of calls recorded since construction or the last {@link #clear()},
+   * including those that have been overwritten.
+   *
+   * @return the total number of recorded calls
+   */
+  public long getRecordedCount() {
+    return recorded;
+  }
+
+  /**
+   * Gets the number of calls still held in the buffer.
+   *
+   * @return the number of retained calls
+   */
+  public int size() {
+    return (int) Math.min(recorded, records.length);
+  }
+
+  /**
+   * Gets the kind of a retained call.
+   *
+   * @param index the index of the call, 0 being the oldest retained call
+   * @return the kind of call
+   * @throws IndexOutOfBoundsException if the index is not less than {@link #size()}
+   */
+  public Call getCall(int index) {
+    return CALLS[(int) (recordAt(index) & BYTE_MASK)];
+  }
+
+  /**
+   * Gets the row of a retained {@link Call#UPDATE_CELL} call.
+   *
+   * @param index the index of the call, 0 being the oldest retained call
+   * @return the row index, or 0 for other calls
+   * @throws IndexOutOfBoundsException if the index is not less than {@link #size()}
+   */
+  public int getRow(int index) {
+    return (int) (recordAt(index) >>> ROW_SHIFT & BYTE_MASK);
+  }
+
+  /**
+   * Gets the column of a retained {@link Call#UPDATE_CELL} call.
+   *
+   * @param index the index of the call, 0 being the oldest retained call
+   * @return the column index, or 0 for other calls
+   * @throws IndexOutOfBoundsException if the index is not less than {@link #size()}
+   */
+  public int getCol(int index) {
+    return (int) (recordAt(index) >>> COL_SHIFT & BYTE_MASK);
+  }
+
+  /**
+   * Gets the cell state of a retained {@link Call#UPDATE_CELL} call.
+   *
+   * @param index the index of the call, 0 being the oldest retained call
+   * @return the cell state
+   * @throws IndexOutOfBoundsException if the index is not less than {@link #size()}
+   * @throws IllegalStateException     if the call is not an {@link Call#UPDATE_CELL} call
+   */
+  public CellState getCellState(int index) {
+    if (getCall(index) != Call.UPDATE_CELL) {
+      throw new IllegalStateException("Call is not an updateCell call.");
+    }
+    return STATES[(int) (recordAt(index) >>> VALUE_SHIFT)];
+  }
+
+  /**
+   * Gets the remaining moves of a retained {@link Call#UPDATE_MOVES} call.
+   *
+   * @param index the index of the call, 0 being the oldest retained call
+   * @return the number of remaining moves
+   * @throws IndexOutOfBoundsException if the index is not less than {@link #size()}
+   * @throws IllegalStateException     if the call is not an {@link Call#UPDATE_MOVES} call
+   */
+  public int getRemainingMoves(int index) {
+    if (getCall(index) != Call.UPDATE_MOVES) {
+      throw new IllegalStateException("Call is not an updateMoves call.");
+    }
+    return (int) (recordAt(index) >> VALUE_SHIFT);
+  }
+
+  /**
+   * Gets the message of a retained {@link Call#UPDATE_STATUS} call.
+   *
+   * @param index the index of the call, 0 being the oldest retained call
+   * @return the status message, or null for other calls
+   * @throws IndexOutOfBoundsException if the index is not less than {@link #size()}
+   */
+  public String getMessage(int index) {
+    return messages[slotOf(index)];
+  }
+
+  /**
+   * Discards all recorded calls. The registered listener is kept.
+   */
+  public void clear() {
+    recorded = 0;
+    revealedShips = null;
+    Arrays.fill(messages, null);
+  }
+
+  private long recordAt(int index) {
+    return records[slotOf(index)];
+  }
+
+  private int slotOf(int index) {
+    int size = size();
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of " + size + " records.");
+    }
+    return (int) ((recorded - size + index) & mask);
+  }
+}
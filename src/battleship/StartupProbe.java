@@ -0,0 +1,62 @@
+package battleship;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how long the Swing client takes to become usable: the time from launch until the
+ * frame has been shown and the board is ready for the first click. The result is printed only
+ * when the {@value #PROPERTY} system property is set to {@code true}. All methods must be called
+ * on the event dispatch thread.
+ */
+public class StartupProbe {
+  /**
+   * The system property that turns on reporting.
+   */
+  public static final String PROPERTY = "battleship.startupProbe";
+
+  private final long launched;
+  private final boolean enabled;
+  private long frameShown;
+  private long boardReady;
+
+  /**
+   * Constructs a probe.
+   *
+   * @param launched the {@link System#nanoTime()} at which the client was launched
+   */
+  public StartupProbe(long launched) {
+    this.launched = launched;
+    this.enabled = Boolean.getBoolean(PROPERTY);
+  }
+
+  /**
+   * Records that the frame has been shown.
+   */
+  public void frameShown() {
+    if (frameShown == 0) {
+      frameShown = System.nanoTime();
+      reportIfInteractive();
+    }
+  }
+
+  /**
+   * Records that the board is set up and the controller accepts clicks.
+   */
+  public void boardReady() {
+    if (boardReady == 0) {
+      boardReady = System.nanoTime();
+      reportIfInteractive();
+    }
+  }
+
+  private void reportIfInteractive() {
+    if (!enabled || frameShown == 0 || boardReady == 0) {
+      return;
+    }
+    System.out.printf("Frame shown after %.1f ms, board ready after %.1f ms%n",
+        (frameShown - launched) / 1e6, (boardReady - launched) / 1e6);
+    System.out.printf("Time to first interactive frame: %.1f ms (%d ms since JVM start)%n",
+        (Math.max(frameShown, boardReady) - launched) / 1e6,
+        ManagementFactory.getRuntimeMXBean().getUptime());
+  }
+}
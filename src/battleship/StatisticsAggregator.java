@@ -0,0 +1,59 @@
+package battleship;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Combines {@link GameStatistics} published by many threads without locking. Each thread keeps its
+ * own statistics and publishes them at intervals; publishing swaps in a merged copy of the running
+ * total with a compare-and-set, so readers always see a consistent total and never block writers.
+ */
+public class StatisticsAggregator {
+  private final int maxGuesses;
+  private final AtomicReference<GameStatistics> total;
+
+  /**
+   * Constructs an aggregator for games with the given guess limit.
+   *
+   * @param maxGuesses the maximum number of guesses in a game
+   */
+  public StatisticsAggregator(int maxGuesses) {
+    this.maxGuesses = maxGuesses;
+    this.total = new AtomicReference<>(new GameStatistics(maxGuesses));
+  }
+
+  /**
+   * Adds a thread's statistics to the total and clears them so the thread can keep recording.
+   *
+   * @param local the statistics to publish, owned by the calling thread
+   * @throws IllegalArgumentException if the statistics are for a different guess limit
+   */
+  public void publish(GameStatistics local) {
+    if (local.getGameCount() == 0) {
+      return;
+    }
+    GameStatistics current;
+    GameStatistics next;
+    do {
+      current = total.get();
+      next = current.copy();
+      next.merge(local);
+    } while (!total.compareAndSet(current, next));
+    local.reset();
+  }
+
+  /**
+   * Gets a copy of the statistics published so far.
+   *
+   * @return the combined statistics
+   */
+  public GameStatistics snapshot() {
+    return total.get().copy();
+  }
+
+  /**
+   * Clears the combined statistics.
+   */
+  public void reset() {
+    total.set(new GameStatistics(maxGuesses));
+  }
+}
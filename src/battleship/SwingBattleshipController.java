@@ -4,11 +4,17 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 
 /**
- * The controller for the Swing Battleship game.
+ * The controller for the Swing Battleship game. Clicks are held back until {@link #playGame()}
+ * has finished, so the game may be started on a thread other than the event dispatch thread. The
+ * view may also be attached after the controller is created, so the game can be started before
+ * the window is built.
  */
 public class SwingBattleshipController implements BattleshipController, ActionListener {
   private final BattleshipModel model;
-  private final BattleshipView view;
+  // only touched on the event dispatch thread, once attached
+  private BattleshipView view;
+  // written once the model has started, so clicks on the event dispatch thread see its ships
+  private volatile boolean started;
 
   /**
    * Constructs a SwingBattleshipController.
@@ -17,7 +23,31 @@ public class SwingBattleshipController implements BattleshipController, ActionLi
    * @param view  the game view
    */
   public SwingBattleshipController(BattleshipModel model, BattleshipView view) {
+    this(model);
+    attachView(view);
+  }
+
+  /**
+   * Constructs a SwingBattleshipController without a view. Call {@link #attachView} once the view
+   * has been built.
+   *
+   * @param model the game model
+   */
+  public SwingBattleshipController(BattleshipModel model) {
     this.model = model;
+  }
+
+  /**
+   * Connects this controller to a view and starts listening to its grid. Must be called on the
+   * event dispatch thread.
+   *
+   * @param view the game view
+   * @throws IllegalStateException if a view is already attached
+   */
+  public void attachView(BattleshipView view) {
+    if (this.view != null) {
+      throw new IllegalStateException("A view is already attached.");
+    }
     this.view = view;
     view.addGridButtonListener(this);
   }
@@ -25,10 +55,15 @@ public class SwingBattleshipController implements BattleshipController, ActionLi
   @Override
   public void playGame() {
     model.startGame();
+    started = true;
   }
 
   @Override
   public void actionPerformed(ActionEvent e) {
+    if (!started) {
+      view.updateStatus("Please wait, the ships are being placed.");
+      return;
+    }
     String command = e.getActionCommand();
     String[] parts = command.split(",");
     if (parts.length != 2) {
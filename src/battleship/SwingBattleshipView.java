@@ -16,6 +16,7 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 import javax.swing.Timer;
+import javax.swing.border.Border;
 
 /**
  * A clean Swing-based view for the Battleship game with hit animations and modern styling.
@@ -25,13 +26,26 @@ public class SwingBattleshipView extends JFrame implements BattleshipView {
 
   private static final Color DARK_BG = new Color(30, 30, 30);
   private static final Color DARK_CELL = new Color(0, 120, 0);
+  private static final Color HIT_CELL = new Color(200, 0, 0);
+  private static final Color MISS_CELL = new Color(30, 144, 255);
+  private static final Color HEADER_BG = new Color(200, 200, 200);
+
+  // shared by every component instead of creating one per cell
+  private static final Font INFO_BOLD_FONT = new Font("SansSerif", Font.BOLD, 14);
+  private static final Font INFO_FONT = new Font("SansSerif", Font.PLAIN, 14);
+  private static final Font CELL_FONT = new Font("SansSerif", Font.BOLD, 16);
+  private static final Font HEADER_FONT = new Font("Monospaced", Font.BOLD, 13);
+  private static final Dimension CELL_SIZE = new Dimension(40, 40);
+  private static final Insets NO_MARGIN = new Insets(0, 0, 0, 0);
+  private static final Border HEADER_BORDER = BorderFactory.createLineBorder(Color.GRAY);
 
   private final JButton[][] gridButtons;
   private final JLabel statusLabel;
   private final JLabel guessLabel;
 
   /**
-   * Constructs the Battleship GUI view.
+   * Constructs the Battleship GUI view. The frame is laid out but not shown; call
+   * {@code setVisible(true)} to show it. Must be called on the event dispatch thread.
    */
   public SwingBattleshipView() {
     super("Battleship Game");
@@ -46,8 +60,8 @@ public class SwingBattleshipView extends JFrame implements BattleshipView {
     // Top info panel
     JPanel infoPanel = new JPanel(new BorderLayout());
     infoPanel.setBackground(DARK_BG);
-    guessLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
-    statusLabel.setFont(new Font("SansSerif", Font.PLAIN, 14));
+    guessLabel.setFont(INFO_BOLD_FONT);
+    statusLabel.setFont(INFO_FONT);
     statusLabel.setHorizontalAlignment(SwingConstants.RIGHT);
     guessLabel.setForeground(Color.WHITE);
     statusLabel.setForeground(Color.WHITE);
@@ -84,12 +98,12 @@ public class SwingBattleshipView extends JFrame implements BattleshipView {
           gridPanel.add(rowLabel, gbc);
         } else {
           JButton button = new JButton();
-          button.setPreferredSize(new Dimension(40, 40));
-          button.setMargin(new Insets(0, 0, 0, 0));
+          button.setPreferredSize(CELL_SIZE);
+          button.setMargin(NO_MARGIN);
           button.setFocusPainted(false);
           button.setBackground(DARK_CELL);
           button.setForeground(Color.WHITE);
-          button.setFont(new Font("SansSerif", Font.BOLD, 16));
+          button.setFont(CELL_FONT);
           button.setActionCommand(row + "," + (col - 1));
           gridButtons[row][col - 1] = button;
           gridPanel.add(button, gbc);
@@ -102,7 +116,7 @@ public class SwingBattleshipView extends JFrame implements BattleshipView {
     JButton exitButton = new JButton("Exit");
 
     exitButton.setFocusPainted(false);
-    exitButton.setFont(new Font("SansSerif", Font.PLAIN, 14));
+    exitButton.setFont(INFO_FONT);
 
     controlPanel.add(exitButton);
 
@@ -114,7 +128,6 @@ public class SwingBattleshipView extends JFrame implements BattleshipView {
 
     pack();
     setLocationRelativeTo(null);
-    setVisible(true);
   }
 
   @Override
@@ -132,11 +145,11 @@ public class SwingBattleshipView extends JFrame implements BattleshipView {
     switch (state) {
       case HIT:
         button.setText("X");
-        animateFlash(button, new Color(200, 0, 0));
+        animateFlash(button, HIT_CELL);
         break;
       case MISS:
         button.setText("O");
-        button.setBackground(new Color(30, 144, 255));
+        button.setBackground(MISS_CELL);
         break;
       default:
         button.setText("");
@@ -183,11 +196,11 @@ public class SwingBattleshipView extends JFrame implements BattleshipView {
    * Applies header label styling.
    */
   private void styleHeader(JLabel label) {
-    label.setPreferredSize(new Dimension(40, 40));
+    label.setPreferredSize(CELL_SIZE);
     label.setOpaque(true);
-    label.setBackground(new Color(200, 200, 200));
-    label.setFont(new Font("Monospaced", Font.BOLD, 13));
-    label.setBorder(BorderFactory.createLineBorder(Color.GRAY));
+    label.setBackground(HEADER_BG);
+    label.setFont(HEADER_FONT);
+    label.setBorder(HEADER_BORDER);
   }
 
   /**
@@ -0,0 +1,81 @@
+package battleship;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link PlacementScorer} kernel written with the Vector API. The fit test runs on as many
+ * boards at once as the preferred long vector holds, and the per-cell additions on as many as the
+ * preferred int vector holds; the boards left over at the end of a tile are handled one by one.
+ * Only created by {@link PlacementScorer#create(Fleet)}, and only when the
+ * {@code jdk.incubator.vector} module is present.
+ */
+final class VectorPlacementScorer extends PlacementScorer {
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  // as many int lanes as LONGS has long lanes, to hold the weights of one long vector of boards
+  private static final VectorSpecies<Integer> WEIGHTS =
+      VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+  VectorPlacementScorer(Fleet fleet) {
+    super(fleet);
+  }
+
+  @Override
+  void scoreTile(PlacementMasks options, int ships, long[] guessedLow, long[] guessedHigh,
+                 int start, int end, int count, int[] scores) {
+    int[] weights = this.weights;
+    int size = end - start;
+    int fitBound = LONGS.loopBound(size);
+    IntVector noWeight = IntVector.zero(WEIGHTS);
+    for (int p = 0; p < options.size(); p++) {
+      long low = options.low(p);
+      long high = options.high(p);
+
+      boolean any = false;
+      int b = 0;
+      for (; b < fitBound; b += LONGS.length()) {
+        LongVector covered = LongVector.fromArray(LONGS, guessedLow, start + b).and(low)
+            .or(LongVector.fromArray(LONGS, guessedHigh, start + b).and(high));
+        VectorMask<Long> fits = covered.compare(VectorOperators.EQ, 0);
+        noWeight.blend(ships, fits.cast(WEIGHTS)).intoArray(weights, b);
+        any |= fits.anyTrue();
+      }
+      for (; b < size; b++) {
+        boolean fits = ((guessedLow[start + b] & low) | (guessedHigh[start + b] & high)) == 0;
+        weights[b] = fits ? ships : 0;
+        any |= fits;
+      }
+      if (!any) {
+        continue;
+      }
+
+      while (low != 0) {
+        addWeights(scores, Long.numberOfTrailingZeros(low) * count + start, size);
+        low &= low - 1;
+      }
+      while (high != 0) {
+        addWeights(scores, (64 + Long.numberOfTrailingZeros(high)) * count + start, size);
+        high &= high - 1;
+      }
+    }
+  }
+
+  private void addWeights(int[] scores, int offset, int size) {
+    int[] weights = this.weights;
+    int bound = INTS.loopBound(size);
+    int b = 0;
+    for (; b < bound; b += INTS.length()) {
+      IntVector.fromArray(INTS, scores, offset + b)
+          .add(IntVector.fromArray(INTS, weights, b))
+          .intoArray(scores, offset + b);
+    }
+    for (; b < size; b++) {
+      scores[offset + b] += weights[b];
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package battleship;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BattleshipModelImpl}, finding the ships through the ship grid.
+ */
+public class BattleshipModelImplTest {
+
+  @Test
+  public void testStandardFleetIsSunkByOneHitOnEachShip() {
+    BattleshipModel model = new BattleshipModelImpl();
+    model.startGame();
+    ShipType[][] ships = model.getShipGrid();
+
+    List<ShipType> hit = new ArrayList<>();
+    for (int cell = 0; cell < 100; cell++) {
+      ShipType type = ships[cell / 10][cell % 10];
+      if (type != null && !hit.contains(type)) {
+        assertFalse(model.isGameOver());
+        assertTrue(model.makeGuess(cell / 10, cell % 10));
+        hit.add(type);
+      }
+    }
+
+    assertEquals(ShipType.values().length, hit.size());
+    assertEquals(5, model.getGuessCount());
+    assertTrue(model.areAllShipsSunk());
+    assertTrue(model.isGameOver());
+  }
+
+  @Test
+  public void testMultiShipFleetNeedsOneHitOnEveryShip() {
+    Fleet fleet = Fleet.parse(Arrays.asList("DESTROYER 3 1", "PATROL_BOAT 1 3"));
+    BattleshipModel model = new BattleshipModelImpl(fleet);
+    model.startGame();
+    ShipType[][] ships = model.getShipGrid();
+
+    // three hits on the same ship sink only that ship
+    for (int cell = 0; cell < 100; cell++) {
+      if (ships[cell / 10][cell % 10] == ShipType.DESTROYER) {
+        assertTrue(model.makeGuess(cell / 10, cell % 10));
+      }
+    }
+    assertEquals(3, model.getGuessCount());
+    assertFalse(model.areAllShipsSunk());
+
+    int boats = 0;
+    for (int cell = 0; cell < 100; cell++) {
+      if (ships[cell / 10][cell % 10] == ShipType.PATROL_BOAT) {
+        assertFalse(model.isGameOver());
+        assertTrue(model.makeGuess(cell / 10, cell % 10));
+        boats++;
+      }
+    }
+    assertEquals(3, boats);
+    assertTrue(model.areAllShipsSunk());
+    assertTrue(model.isGameOver());
+  }
+
+  @Test
+  public void testShipsDoNotOverlap() {
+    for (int game = 0; game < 100; game++) {
+      BattleshipModel model = new BattleshipModelImpl();
+      model.startGame();
+      assertEquals(17, countShipCells(model.getShipGrid()));
+    }
+  }
+
+  @Test
+  public void testStartingAgainAfterAFinishedGameResetsTheBoard() {
+    BattleshipModel model = new BattleshipModelImpl();
+    model.startGame();
+    for (int cell = 0; !model.isGameOver(); cell++) {
+      model.makeGuess(cell / 10, cell % 10);
+    }
+
+    model.startGame();
+    assertFalse(model.isGameOver());
+    assertFalse(model.areAllShipsSunk());
+    assertEquals(0, model.getGuessCount());
+    for (CellState[] row : model.getCellGrid()) {
+      for (CellState state : row) {
+        assertEquals(CellState.UNKNOWN, state);
+      }
+    }
+    ShipType[][] ships = model.getShipGrid();
+    assertEquals(17, countShipCells(ships));
+
+    List<ShipType> hit = new ArrayList<>();
+    for (int cell = 0; cell < 100; cell++) {
+      ShipType type = ships[cell / 10][cell % 10];
+      if (type != null && !hit.contains(type)) {
+        assertFalse(model.isGameOver());
+        assertTrue(model.makeGuess(cell / 10, cell % 10));
+        hit.add(type);
+      }
+    }
+    assertEquals(5, model.getGuessCount());
+    assertTrue(model.areAllShipsSunk());
+    assertTrue(model.isGameOver());
+  }
+
+  private static int countShipCells(ShipType[][] ships) {
+    int count = 0;
+    for (ShipType[] row : ships) {
+      for (ShipType type : row) {
+        if (type != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
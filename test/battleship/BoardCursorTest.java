@@ -0,0 +1,136 @@
+package battleship;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BoardCursor}, playing the same guesses on a cursor and on a
+ * {@link BattleshipModelImpl} that place their ships from the same seed, and checking that every
+ * outcome matches.
+ */
+public class BoardCursorTest {
+
+  @Test
+  public void testRandomGamesMatchTheReferenceModel() {
+    Fleet fleet = Fleet.standard();
+    BoardArena arena = new BoardArena(fleet, 8);
+    Random guesses = new Random(21);
+    for (long seed = 0; seed < 200; seed++) {
+      BoardCursor cursor = arena.cursor(new Random(seed)).moveTo(seed % 8);
+      BattleshipModel reference = new BattleshipModelImpl(fleet, new Random(seed));
+      cursor.startGame();
+      reference.startGame();
+
+      while (!reference.isGameOver()) {
+        // mostly fresh cells, with some repeats and some off the board
+        int row = guesses.nextInt(12) - 1;
+        int col = guesses.nextInt(12) - 1;
+        assertSameOutcome(reference, cursor, row, col);
+        assertSameState(reference, cursor);
+      }
+      assertTrue(cursor.isGameOver());
+      assertSameOutcome(reference, cursor, 0, 0);
+      assertArrayEquals(reference.getShipGrid(), cursor.getShipGrid());
+    }
+  }
+
+  @Test
+  public void testOneHitOnEachShipWins() {
+    Fleet fleet = Fleet.parse(Arrays.asList("DESTROYER 3 2", "PATROL_BOAT 2 3"));
+    BoardArena arena = new BoardArena(fleet, 1);
+    BoardCursor cursor = arena.cursor(new Random(4));
+    BattleshipModel reference = new BattleshipModelImpl(fleet, new Random(4));
+    cursor.startGame();
+    reference.startGame();
+
+    ShipType[][] ships = reference.getShipGrid();
+    for (int cell = 0; cell < 100 && !reference.isGameOver(); cell++) {
+      if (ships[cell / 10][cell % 10] != null) {
+        assertSameOutcome(reference, cursor, cell / 10, cell % 10);
+        assertSameState(reference, cursor);
+      }
+    }
+    assertTrue(cursor.areAllShipsSunk());
+    assertTrue(cursor.isGameOver());
+  }
+
+  @Test
+  public void testGuessLimitEndsTheGame() {
+    BoardArena arena = new BoardArena(Fleet.standard(), 1, 3);
+    BoardCursor cursor = arena.cursor(new Random(1));
+    cursor.startGame();
+    int cell = 0;
+    while (!cursor.isGameOver()) {
+      cursor.makeGuess(cell / 10, cell % 10);
+      cell++;
+    }
+    // five ships cannot all be sunk in three guesses, so only the limit can have ended it
+    assertEquals(3, cursor.getGuessCount());
+    assertFalse(cursor.areAllShipsSunk());
+    assertEquals(3, cursor.getMaxGuesses());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGuessBeforeStartThrows() {
+    new BoardArena(Fleet.standard(), 1).cursor().makeGuess(0, 0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testShipGridBeforeGameOverThrows() {
+    BoardCursor cursor = new BoardArena(Fleet.standard(), 1).cursor();
+    cursor.startGame();
+    cursor.getShipGrid();
+  }
+
+  @Test
+  public void testStartingAgainClearsTheBoard() {
+    BoardCursor cursor = new BoardArena(Fleet.standard(), 2).cursor(new Random(8)).moveTo(1);
+    cursor.startGame();
+    for (int cell = 0; !cursor.isGameOver(); cell++) {
+      cursor.makeGuess(cell / 10, cell % 10);
+    }
+    cursor.startGame();
+    assertFalse(cursor.isGameOver());
+    assertFalse(cursor.areAllShipsSunk());
+    assertEquals(0, cursor.getGuessCount());
+    assertEquals(0, cursor.guessedWord(0));
+    assertEquals(0, cursor.guessedWord(1));
+  }
+
+  private static void assertSameOutcome(BattleshipModel reference, BoardCursor cursor, int row,
+                                        int col) {
+    Object expected = outcome(reference, row, col);
+    Object actual = outcome(cursor, row, col);
+    assertEquals("guess at " + row + "," + col, expected, actual);
+  }
+
+  private static Object outcome(BattleshipModel model, int row, int col) {
+    try {
+      return model.makeGuess(row, col);
+    } catch (RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
+  private static void assertSameState(BattleshipModel reference, BoardCursor cursor) {
+    assertEquals(reference.isGameOver(), cursor.isGameOver());
+    assertEquals(reference.areAllShipsSunk(), cursor.areAllShipsSunk());
+    assertEquals(reference.getGuessCount(), cursor.getGuessCount());
+    assertArrayEquals(reference.getCellGrid(), cursor.getCellGrid());
+    if (!reference.isGameOver()) {
+      try {
+        cursor.getShipGrid();
+        fail("Ship grid shown before the game is over.");
+      } catch (IllegalStateException expected) {
+        // the cursor hides the ships until the end, as the interface asks
+      }
+    }
+  }
+}
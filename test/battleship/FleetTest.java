@@ -0,0 +1,87 @@
+package battleship;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Fleet}.
+ */
+public class FleetTest {
+
+  @Test
+  public void testStandardFleetHasOneShipOfEachType() {
+    Fleet fleet = Fleet.standard();
+    assertEquals(ShipType.values().length, fleet.size());
+    for (int ship = 0; ship < fleet.size(); ship++) {
+      assertEquals(ShipType.values()[ship], fleet.getShipType(ship));
+      assertEquals(fleet.getShipType(ship).getSize(), fleet.getLength(ship));
+    }
+  }
+
+  @Test
+  public void testParseSkipsCommentsAndBlankLines() {
+    Fleet fleet = Fleet.parse(Arrays.asList("# type length count", "", "destroyer 3 2",
+        "  PATROL_BOAT   1  3  "));
+    assertEquals(5, fleet.size());
+    assertEquals(ShipType.DESTROYER, fleet.getShipType(1));
+    assertEquals(3, fleet.getLength(1));
+    assertEquals(ShipType.PATROL_BOAT, fleet.getShipType(2));
+    assertEquals(1, fleet.getLength(4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseRejectsUnknownType() {
+    Fleet.parse(Collections.singletonList("CRUISER 3 1"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseRejectsLengthZero() {
+    Fleet.parse(Collections.singletonList("DESTROYER 0 1"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseRejectsLengthEleven() {
+    Fleet.parse(Collections.singletonList("DESTROYER 11 1"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseRejectsMissingCount() {
+    Fleet.parse(Collections.singletonList("DESTROYER 3"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseRejectsTooManyCells() {
+    Fleet.parse(Collections.singletonList("BATTLESHIP 10 11"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseRejectsEmptyFleet() {
+    Fleet.parse(Collections.singletonList("# nothing"));
+  }
+
+  @Test
+  public void testPlacedShipsDoNotOverlap() {
+    Fleet fleet = Fleet.parse(Arrays.asList("AIRCRAFT_CARRIER 5 2", "DESTROYER 3 6",
+        "PATROL_BOAT 2 8"));
+    long[] placed = new long[2 * fleet.size()];
+    Random random = new Random(7);
+    for (int round = 0; round < 100; round++) {
+      fleet.placeRandomly(random, placed);
+      long low = 0;
+      long high = 0;
+      for (int ship = 0; ship < fleet.size(); ship++) {
+        long shipLow = placed[2 * ship];
+        long shipHigh = placed[2 * ship + 1];
+        assertEquals(fleet.getLength(ship), Long.bitCount(shipLow) + Long.bitCount(shipHigh));
+        assertEquals(0, low & shipLow);
+        assertEquals(0, high & shipHigh);
+        low |= shipLow;
+        high |= shipHigh;
+      }
+    }
+  }
+}
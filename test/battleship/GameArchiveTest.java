@@ -0,0 +1,151 @@
+package battleship;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Round-trip tests for {@link GameArchiveWriter} and {@link GameArchiveReader}, checked against
+ * totals counted directly from the games as they are written.
+ */
+public class GameArchiveTest {
+  private static final int GAMES = 2500; // spans three blocks, the last one partial
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testRoundTripMatchesTheGamesWritten() throws IOException {
+    Path path = folder.newFile("games.bsa").toPath();
+    Random random = new Random(11);
+    long wins = 0;
+    long[] histogram = new long[51];
+    long[] hits = new long[ShipType.values().length];
+    long[] occupied = new long[ShipType.values().length];
+
+    try (GameArchiveWriter writer = new GameArchiveWriter(path, 50)) {
+      for (int game = 0; game < GAMES; game++) {
+        BattleshipModel model = new BattleshipModelImpl();
+        int[] guesses = play(model, random);
+        writer.append(model, guesses);
+
+        if (model.areAllShipsSunk()) {
+          wins++;
+          histogram[model.getGuessCount()]++;
+        }
+        ShipType[][] ships = model.getShipGrid();
+        CellState[][] cells = model.getCellGrid();
+        for (int cell = 0; cell < 100; cell++) {
+          ShipType ship = ships[cell / 10][cell % 10];
+          if (ship != null) {
+            occupied[ship.ordinal()]++;
+            if (cells[cell / 10][cell % 10] != CellState.UNKNOWN) {
+              hits[ship.ordinal()]++;
+            }
+          }
+        }
+      }
+    }
+
+    try (GameArchiveReader reader = new GameArchiveReader(path)) {
+      assertEquals(GAMES, reader.getGameCount());
+      assertEquals(50, reader.getMaxGuesses());
+      assertEquals((double) wins / GAMES, reader.winRate(), 1e-12);
+      assertArrayEquals(histogram, reader.guessesToWinHistogram());
+      double[] rates = reader.hitRateByShipType();
+      for (int i = 0; i < rates.length; i++) {
+        assertEquals((double) hits[i] / occupied[i], rates[i], 1e-12);
+      }
+    }
+  }
+
+  @Test
+  public void testEmptyArchive() throws IOException {
+    Path path = folder.newFile("empty.bsa").toPath();
+    new GameArchiveWriter(path, 50).close();
+    try (GameArchiveReader reader = new GameArchiveReader(path)) {
+      assertEquals(0, reader.getGameCount());
+      assertEquals(0, reader.winRate(), 0);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroGuessLimitIsRejected() throws IOException {
+    Path path = writeOneGame();
+    patchInt(path, 12, 0);
+    new GameArchiveReader(path).close();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeGameCountIsRejected() throws IOException {
+    Path path = writeOneGame();
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(24);
+      file.writeLong(-1);
+    }
+    new GameArchiveReader(path).close();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownShipIsRejected() throws IOException {
+    Path path = writeOneGame();
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(GameArchiveWriter.HEADER_BYTES + 2 * GameArchiveWriter.BLOCK_GAMES);
+      file.writeByte(ShipType.values().length + 1);
+    }
+    try (GameArchiveReader reader = new GameArchiveReader(path)) {
+      reader.hitRateByShipType();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGuessOutsideTheBoardIsRejected() throws IOException {
+    Path path = writeOneGame();
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(GameArchiveWriter.HEADER_BYTES + 102 * GameArchiveWriter.BLOCK_GAMES);
+      file.writeByte(100);
+    }
+    try (GameArchiveReader reader = new GameArchiveReader(path)) {
+      reader.hitRateByShipType();
+    }
+  }
+
+  private Path writeOneGame() throws IOException {
+    Path path = folder.newFile().toPath();
+    try (GameArchiveWriter writer = new GameArchiveWriter(path, 50)) {
+      BattleshipModel model = new BattleshipModelImpl();
+      writer.append(model, play(model, new Random(3)));
+    }
+    return path;
+  }
+
+  private static void patchInt(Path path, long position, int value) throws IOException {
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(position);
+      file.writeInt(value);
+    }
+  }
+
+  private static int[] play(BattleshipModel model, Random random) {
+    model.startGame();
+    int[] guesses = new int[100];
+    for (int i = 0; i < guesses.length; i++) {
+      guesses[i] = i;
+    }
+    for (int made = 0; !model.isGameOver(); made++) {
+      int pick = made + random.nextInt(100 - made);
+      int cell = guesses[pick];
+      guesses[pick] = guesses[made];
+      guesses[made] = cell;
+      model.makeGuess(cell / 10, cell % 10);
+    }
+    return guesses;
+  }
+}
@@ -0,0 +1,135 @@
+package battleship;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GameStatistics}, {@link StatisticsAggregator} and {@link GameSimulator}.
+ */
+public class GameStatisticsTest {
+
+  @Test
+  public void testCheckedAndUncheckedRecordingAgree() {
+    GameStatistics checked = new GameStatistics(50);
+    GameStatistics unchecked = new GameStatistics(50);
+    Random random = new Random(5);
+    for (int game = 0; game < 200; game++) {
+      BattleshipModel model = new BattleshipModelImpl();
+      int[] guesses = play(model, random);
+      checked.record(model, guesses);
+      unchecked.recordUnchecked(model, guesses);
+    }
+    assertEquals(200, checked.getGameCount());
+    assertEquals(checked.getWinRate(), unchecked.getWinRate(), 0);
+    assertArrayEquals(checked.getGuessesToFinish(), unchecked.getGuessesToFinish());
+    assertArrayEquals(checked.getFirstHitCounts(), unchecked.getFirstHitCounts());
+    for (ShipType ship : ShipType.values()) {
+      assertArrayEquals(checked.getHitOrder(ship), unchecked.getHitOrder(ship));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRecordRejectsUnfinishedGame() {
+    BattleshipModel model = new BattleshipModelImpl();
+    model.startGame();
+    new GameStatistics(50).record(model, new int[0]);
+  }
+
+  @Test
+  public void testMergeAddsCounts() {
+    Random random = new Random(9);
+    GameStatistics first = recordGames(30, random);
+    GameStatistics second = recordGames(20, random);
+    GameStatistics both = first.copy();
+    both.merge(second);
+
+    assertEquals(50, both.getGameCount());
+    assertEquals(30, first.getGameCount());
+    long[] expected = first.getGuessesToFinish();
+    long[] other = second.getGuessesToFinish();
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] += other[i];
+    }
+    assertArrayEquals(expected, both.getGuessesToFinish());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeRejectsDifferentGuessLimit() {
+    new GameStatistics(50).merge(new GameStatistics(40));
+  }
+
+  @Test
+  public void testPublishAddsToTotalAndClearsLocal() {
+    StatisticsAggregator aggregator = new StatisticsAggregator(50);
+    Random random = new Random(13);
+    GameStatistics local = recordGames(10, random);
+    long[] finished = local.getGuessesToFinish();
+
+    aggregator.publish(local);
+    assertEquals(0, local.getGameCount());
+    assertEquals(10, aggregator.snapshot().getGameCount());
+    assertArrayEquals(finished, aggregator.snapshot().getGuessesToFinish());
+
+    aggregator.publish(recordGames(5, random));
+    assertEquals(15, aggregator.snapshot().getGameCount());
+    aggregator.reset();
+    assertEquals(0, aggregator.snapshot().getGameCount());
+  }
+
+  @Test
+  public void testSimulatorTotalsAddUpAcrossThreads() throws Exception {
+    StatisticsAggregator aggregator = new StatisticsAggregator(50);
+    new GameSimulator(BattleshipModelImpl::new, aggregator, 7).run(1001, 4);
+
+    GameStatistics total = aggregator.snapshot();
+    assertEquals(1001, total.getGameCount());
+    long finished = 0;
+    for (long count : total.getGuessesToFinish()) {
+      finished += count;
+    }
+    assertEquals(1001, finished);
+    long firstHits = 0;
+    for (long[] row : total.getFirstHitCounts()) {
+      for (long count : row) {
+        firstHits += count;
+      }
+    }
+    assertTrue(firstHits <= 1001);
+  }
+
+  @Test(expected = ExecutionException.class)
+  public void testSimulatorRethrowsWorkerFailure() throws Exception {
+    StatisticsAggregator aggregator = new StatisticsAggregator(40);
+    new GameSimulator(BattleshipModelImpl::new, aggregator, 1).run(100, 2);
+  }
+
+  private static GameStatistics recordGames(int count, Random random) {
+    GameStatistics statistics = new GameStatistics(50);
+    for (int game = 0; game < count; game++) {
+      BattleshipModel model = new BattleshipModelImpl();
+      statistics.record(model, play(model, random));
+    }
+    return statistics;
+  }
+
+  private static int[] play(BattleshipModel model, Random random) {
+    model.startGame();
+    int[] guesses = new int[100];
+    for (int i = 0; i < guesses.length; i++) {
+      guesses[i] = i;
+    }
+    for (int made = 0; !model.isGameOver(); made++) {
+      int pick = made + random.nextInt(100 - made);
+      int cell = guesses[pick];
+      guesses[pick] = guesses[made];
+      guesses[made] = cell;
+      model.makeGuess(cell / 10, cell % 10);
+    }
+    return guesses;
+  }
+}
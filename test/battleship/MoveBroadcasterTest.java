@@ -0,0 +1,173 @@
+package battleship;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MoveBroadcaster} and {@link BroadcastingBattleshipModel}.
+ */
+public class MoveBroadcasterTest {
+
+  @Test
+  public void testMovesArePolledInOrder() {
+    MoveBroadcaster broadcaster = new MoveBroadcaster(16);
+    MoveBroadcaster.Subscription subscription = broadcaster.subscribe();
+    broadcaster.startGame();
+    broadcaster.publish(0, 1, false, 1, false, false);
+    broadcaster.publish(9, 9, true, 2, false, false);
+    broadcaster.publish(4, 5, true, 3, true, true);
+
+    long[] batch = new long[8];
+    assertEquals(4, subscription.poll(batch));
+    assertEquals(MoveBroadcaster.NEW_GAME, MoveBroadcaster.cellOf(batch[0]));
+    assertEquals(1, MoveBroadcaster.cellOf(batch[1]));
+    assertFalse(MoveBroadcaster.isHit(batch[1]));
+    assertEquals(99, MoveBroadcaster.cellOf(batch[2]));
+    assertTrue(MoveBroadcaster.isHit(batch[2]));
+    assertEquals(2, MoveBroadcaster.guessCountOf(batch[2]));
+    assertEquals(45, MoveBroadcaster.cellOf(batch[3]));
+    assertTrue(MoveBroadcaster.isGameOver(batch[3]));
+    assertTrue(MoveBroadcaster.areAllShipsSunk(batch[3]));
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i + 1, MoveBroadcaster.sequenceOf(batch[i]));
+    }
+    assertEquals(0, subscription.poll(batch));
+  }
+
+  @Test
+  public void testSmallBatchesReadEveryMoveOnce() {
+    MoveBroadcaster broadcaster = new MoveBroadcaster(8);
+    MoveBroadcaster.Subscription subscription = broadcaster.subscribe();
+    for (int cell = 0; cell < 6; cell++) {
+      broadcaster.publish(0, cell, false, cell + 1, false, false);
+    }
+    long[] batch = new long[4];
+    assertEquals(4, subscription.poll(batch));
+    assertEquals(3, MoveBroadcaster.cellOf(batch[3]));
+    assertEquals(2, subscription.poll(batch));
+    assertEquals(5, MoveBroadcaster.cellOf(batch[1]));
+  }
+
+  @Test
+  public void testLaggingReaderIsToldToResync() {
+    MoveBroadcaster broadcaster = new MoveBroadcaster(4);
+    MoveBroadcaster.Subscription subscription = broadcaster.subscribe();
+    for (int cell = 0; cell < 10; cell++) {
+      broadcaster.publish(cell / 10, cell % 10, cell % 3 == 0, cell + 1, false, false);
+    }
+
+    long[] batch = new long[16];
+    assertEquals(-1, subscription.poll(batch));
+    MoveBroadcaster.Snapshot snapshot = subscription.resync();
+    assertEquals(10, snapshot.getSequence());
+    assertEquals(10, snapshot.getGuessCount());
+    CellState[][] grid = snapshot.getCellGrid();
+    for (int cell = 0; cell < 10; cell++) {
+      assertEquals(cell % 3 == 0 ? CellState.HIT : CellState.MISS, grid[0][cell]);
+    }
+    assertEquals(CellState.UNKNOWN, grid[1][0]);
+
+    assertEquals(0, subscription.poll(batch));
+    broadcaster.publish(1, 0, false, 11, false, false);
+    assertEquals(1, subscription.poll(batch));
+    assertEquals(11, MoveBroadcaster.sequenceOf(batch[0]));
+  }
+
+  @Test
+  public void testSubscriberCanJoinMidGame() {
+    MoveBroadcaster broadcaster = new MoveBroadcaster(16);
+    broadcaster.startGame();
+    broadcaster.publish(2, 3, true, 1, false, false);
+    broadcaster.publish(7, 1, false, 2, false, false);
+
+    MoveBroadcaster.Subscription late = broadcaster.subscribe();
+    MoveBroadcaster.Snapshot start = late.getSnapshot();
+    assertEquals(3, start.getSequence());
+    assertEquals(2, start.getGuessCount());
+    assertEquals(CellState.HIT, start.getCellGrid()[2][3]);
+    assertEquals(CellState.MISS, start.getCellGrid()[7][1]);
+
+    long[] batch = new long[4];
+    assertEquals(0, late.poll(batch));
+    broadcaster.publish(0, 0, false, 3, false, false);
+    assertEquals(1, late.poll(batch));
+    assertEquals(0, MoveBroadcaster.cellOf(batch[0]));
+  }
+
+  @Test
+  public void testNewGameClearsTheSnapshot() {
+    MoveBroadcaster broadcaster = new MoveBroadcaster(16);
+    broadcaster.publish(5, 5, true, 1, false, false);
+    broadcaster.startGame();
+    MoveBroadcaster.Snapshot snapshot = broadcaster.getSnapshot();
+    assertEquals(0, snapshot.getGuessCount());
+    assertEquals(CellState.UNKNOWN, snapshot.getCellGrid()[5][5]);
+  }
+
+  @Test
+  public void testBroadcastingModelMirrorsTheGame() {
+    MoveBroadcaster broadcaster = new MoveBroadcaster(128);
+    BattleshipModel model = new BroadcastingBattleshipModel(new BattleshipModelImpl(),
+        broadcaster);
+    MoveBroadcaster.Subscription subscription = broadcaster.subscribe();
+    model.startGame();
+    for (int cell = 0; !model.isGameOver(); cell++) {
+      model.makeGuess(cell / 10, cell % 10);
+    }
+
+    MoveBroadcaster.Snapshot snapshot = broadcaster.getSnapshot();
+    assertArrayEquals(model.getCellGrid(), snapshot.getCellGrid());
+    assertEquals(model.getGuessCount(), snapshot.getGuessCount());
+    assertTrue(snapshot.isGameOver());
+    assertEquals(model.areAllShipsSunk(), snapshot.areAllShipsSunk());
+
+    long[] batch = new long[128];
+    assertEquals(model.getGuessCount() + 1, subscription.poll(batch));
+  }
+
+  @Test
+  public void testConcurrentReaderSeesMovesInOrderOrResyncs() throws InterruptedException {
+    MoveBroadcaster broadcaster = new MoveBroadcaster(64);
+    int moves = 200_000;
+    AtomicReference<String> failure = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      MoveBroadcaster.Subscription subscription = broadcaster.subscribe();
+      long[] batch = new long[32];
+      long last = subscription.getSnapshot().getSequence();
+      while (last < moves) {
+        int count = subscription.poll(batch);
+        if (count < 0) {
+          last = subscription.resync().getSequence();
+          continue;
+        }
+        for (int i = 0; i < count; i++) {
+          long sequence = MoveBroadcaster.sequenceOf(batch[i]);
+          if (sequence != last + 1) {
+            failure.compareAndSet(null, "expected " + (last + 1) + " but got " + sequence);
+            return;
+          }
+          last = sequence;
+        }
+        if (count == 0) {
+          Thread.yield(); // let the writer run on machines with few cores
+        }
+      }
+    });
+    reader.start();
+    for (int i = 0; i < moves; i++) {
+      int cell = i % 100;
+      broadcaster.publish(cell / 10, cell % 10, false, cell, false, false);
+      if (i % 1024 == 0) {
+        Thread.yield();
+      }
+    }
+    reader.join(30_000);
+    assertFalse(reader.isAlive());
+    assertEquals(null, failure.get());
+  }
+}
@@ -0,0 +1,116 @@
+package battleship;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link OpeningBookBuilder} and {@link OpeningBook}, building a small book and looking
+ * guesses up in it.
+ */
+public class OpeningBookTest {
+  private static final int SAMPLES = 4000;
+  private static final int DEPTH = 6;
+  private static final long SEED = 31;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path path;
+  private int entries;
+
+  @Before
+  public void setUp() throws IOException {
+    path = folder.newFile("book.bin").toPath();
+    entries = new OpeningBookBuilder(Fleet.standard(), DEPTH, 16)
+        .build(path, SAMPLES, new Random(SEED));
+  }
+
+  @Test
+  public void testFileHoldsOneCompactRecordPerEntry() throws IOException {
+    assertTrue(entries > 1);
+    assertEquals(OpeningBookBuilder.HEADER_BYTES + (long) entries * OpeningBookBuilder.NODE_BYTES,
+        Files.size(path));
+  }
+
+  @Test
+  public void testFirstGuessIsTheMostOccupiedCell() {
+    // the builder samples its layouts first, so the same seed gives the same layouts
+    Fleet fleet = Fleet.standard();
+    Random random = new Random(SEED);
+    long[] placed = new long[2 * fleet.size()];
+    int[] counts = new int[100];
+    for (int s = 0; s < SAMPLES; s++) {
+      fleet.placeRandomly(random, placed);
+      for (int cell = 0; cell < 100; cell++) {
+        for (int ship = 0; ship < fleet.size(); ship++) {
+          long word = cell < 64 ? placed[2 * ship] : placed[2 * ship + 1];
+          if ((word & 1L << (cell & 63)) != 0) {
+            counts[cell]++;
+          }
+        }
+      }
+    }
+    int best = 0;
+    for (int cell = 1; cell < 100; cell++) {
+      if (counts[cell] > counts[best]) {
+        best = cell;
+      }
+    }
+
+    OpeningBook book = new OpeningBook(path);
+    assertEquals(DEPTH, book.getDepth());
+    assertEquals(best, book.nextGuess(new boolean[0], 0));
+  }
+
+  @Test
+  public void testEveryLineOfPlayGuessesNewCells() {
+    OpeningBook book = new OpeningBook(path, Fleet.standard());
+    int found = 0;
+    for (int pattern = 0; pattern < 1 << (DEPTH - 1); pattern++) {
+      boolean[] outcomes = new boolean[DEPTH];
+      boolean[] guessed = new boolean[100];
+      for (int count = 0; count < DEPTH; count++) {
+        int cell = book.nextGuess(outcomes, count);
+        if (cell < 0) {
+          break;
+        }
+        found++;
+        assertTrue(cell < 100);
+        assertFalse("cell " + cell + " guessed twice", guessed[cell]);
+        guessed[cell] = true;
+        outcomes[count] = (pattern >> count & 1) != 0;
+      }
+    }
+    assertTrue(found >= DEPTH);
+  }
+
+  @Test
+  public void testNoGuessBeyondTheDepth() {
+    OpeningBook book = new OpeningBook(path);
+    assertEquals(-1, book.nextGuess(new boolean[DEPTH], DEPTH));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBookForAnotherFleetIsRejected() {
+    Fleet other = Fleet.parse(Arrays.asList("DESTROYER 3 4"));
+    new OpeningBook(path, other).nextGuess(new boolean[0], 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOtherFileIsRejected() throws IOException {
+    Path other = folder.newFile("other.bin").toPath();
+    Files.write(other, new byte[64]);
+    new OpeningBook(other).getDepth();
+  }
+}
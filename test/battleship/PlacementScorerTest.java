@@ -0,0 +1,96 @@
+package battleship;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PlacementScorer} and the kernel chosen by {@link PlacementScorer#create(Fleet)},
+ * both checked against a brute-force count of the placements over every cell. The Vector API
+ * kernel is only tested when the tests run with {@code --add-modules jdk.incubator.vector}.
+ */
+public class PlacementScorerTest {
+  // more than one tile, and not a multiple of any vector length
+  private static final int BOARDS = PlacementScorer.TILE + 301;
+  private static final long HIGH_CELLS = (1L << 36) - 1;
+
+  private final Fleet fleet = Fleet.parse(Arrays.asList("AIRCRAFT_CARRIER 5 1", "BATTLESHIP 4 1",
+      "DESTROYER 3 2", "PATROL_BOAT 2 3"));
+
+  @Test
+  public void testScalarKernelMatchesBruteForce() {
+    checkAgainstBruteForce(new PlacementScorer(fleet));
+  }
+
+  @Test
+  public void testVectorKernelMatchesBruteForce() {
+    PlacementScorer scorer = PlacementScorer.create(fleet);
+    assumeTrue(scorer.getClass() != PlacementScorer.class);
+    checkAgainstBruteForce(scorer);
+  }
+
+  @Test
+  public void testCreateFallsBackWithoutTheVectorModule() {
+    boolean present = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    assertEquals(present, PlacementScorer.create(fleet).getClass() != PlacementScorer.class);
+  }
+
+  @Test
+  public void testBestCellSkipsGuessedCells() {
+    long[] low = {~0L};
+    long[] high = {HIGH_CELLS & ~(1L << 35)};
+    int[] scores = new int[100];
+    PlacementScorer.create(Fleet.parse(Arrays.asList("PATROL_BOAT 1 1")))
+        .score(low, high, 1, scores);
+    assertEquals(99, PlacementScorer.bestCell(scores, 1, 0));
+  }
+
+  private void checkAgainstBruteForce(PlacementScorer scorer) {
+    Random random = new Random(17);
+    long[] low = new long[BOARDS];
+    long[] high = new long[BOARDS];
+    for (int b = 0; b < BOARDS; b++) {
+      // from empty boards to nearly full ones
+      int guesses = random.nextInt(90);
+      for (int i = 0; i < guesses; i++) {
+        int cell = random.nextInt(100);
+        if (cell < 64) {
+          low[b] |= 1L << cell;
+        } else {
+          high[b] |= 1L << (cell - 64);
+        }
+      }
+    }
+    int[] scores = new int[100 * BOARDS];
+    Arrays.fill(scores, -1);
+    scorer.score(low, high, BOARDS, scores);
+
+    int[] expected = new int[100];
+    int[] actual = new int[100];
+    for (int b = 0; b < BOARDS; b++) {
+      Arrays.fill(expected, 0);
+      for (int ship = 0; ship < fleet.size(); ship++) {
+        PlacementMasks options = fleet.getPlacementMasks(ship);
+        for (int p = 0; p < options.size(); p++) {
+          if ((options.low(p) & low[b]) != 0 || (options.high(p) & high[b]) != 0) {
+            continue;
+          }
+          for (int cell = 0; cell < 100; cell++) {
+            long word = cell < 64 ? options.low(p) : options.high(p);
+            if ((word & 1L << (cell & 63)) != 0) {
+              expected[cell]++;
+            }
+          }
+        }
+      }
+      for (int cell = 0; cell < 100; cell++) {
+        actual[cell] = scores[cell * BOARDS + b];
+      }
+      assertArrayEquals("board " + b, expected, actual);
+    }
+  }
+}
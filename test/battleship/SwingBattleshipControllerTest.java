@@ -0,0 +1,153 @@
+package battleship;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SwingBattleshipController}, driven without a display through a
+ * {@link RecordingBattleshipView} and a {@link HeadlessClickDriver}.
+ */
+public class SwingBattleshipControllerTest {
+  private BattleshipModel model;
+  private RecordingBattleshipView view;
+  private SwingBattleshipController controller;
+  private HeadlessClickDriver driver;
+
+  @Before
+  public void setUp() {
+    model = new BattleshipModelImpl();
+    view = new RecordingBattleshipView(1024);
+    controller = new SwingBattleshipController(model, view);
+    controller.playGame();
+    driver = new HeadlessClickDriver(new Random(42));
+  }
+
+  @Test
+  public void testControllerRegistersListener() {
+    assertSame(controller, view.getGridButtonListener());
+  }
+
+  @Test
+  public void testSingleClickUpdatesCellStatusAndMoves() {
+    driver.click(controller, 3, 4);
+
+    assertEquals(3, view.size());
+    assertEquals(RecordingBattleshipView.Call.UPDATE_CELL, view.getCall(0));
+    assertEquals(3, view.getRow(0));
+    assertEquals(4, view.getCol(0));
+    CellState state = model.getCellGrid()[3][4];
+    assertEquals(state, view.getCellState(0));
+
+    assertEquals(RecordingBattleshipView.Call.UPDATE_STATUS, view.getCall(1));
+    assertEquals(state == CellState.HIT ? "Hit!" : "Miss!", view.getMessage(1));
+
+    assertEquals(RecordingBattleshipView.Call.UPDATE_MOVES, view.getCall(2));
+    assertEquals(model.getMaxGuesses() - 1, view.getRemainingMoves(2));
+  }
+
+  @Test
+  public void testRepeatedClickReportsInvalidMove() {
+    driver.click(controller, 0, 0);
+    driver.click(controller, 0, 0);
+
+    assertEquals(4, view.size());
+    assertEquals(RecordingBattleshipView.Call.UPDATE_STATUS, view.getCall(3));
+    assertEquals("Invalid move: Cell already guessed.", view.getMessage(3));
+    assertEquals(1, model.getGuessCount());
+  }
+
+  @Test
+  public void testFullGameRecordsEveryCallInOrder() {
+    int clicks = driver.playToEnd(controller, model);
+
+    assertTrue(model.isGameOver());
+    assertEquals(model.getGuessCount(), clicks);
+    assertEquals(3L * clicks + 3, view.getRecordedCount());
+
+    for (int i = 0; i < clicks; i++) {
+      int first = 3 * i;
+      assertEquals(RecordingBattleshipView.Call.UPDATE_CELL, view.getCall(first));
+      CellState state = view.getCellState(first);
+      assertEquals(model.getCellGrid()[view.getRow(first)][view.getCol(first)], state);
+
+      assertEquals(RecordingBattleshipView.Call.UPDATE_STATUS, view.getCall(first + 1));
+      assertEquals(state == CellState.HIT ? "Hit!" : "Miss!", view.getMessage(first + 1));
+
+      assertEquals(RecordingBattleshipView.Call.UPDATE_MOVES, view.getCall(first + 2));
+      assertEquals(model.getMaxGuesses() - (i + 1), view.getRemainingMoves(first + 2));
+    }
+
+    int end = 3 * clicks;
+    assertEquals(RecordingBattleshipView.Call.UPDATE_STATUS, view.getCall(end));
+    String expected = model.areAllShipsSunk()
+        ? "Congratulations! You sunk all the ships!" : "Game Over! Out of moves.";
+    assertEquals(expected, view.getMessage(end));
+    assertEquals(RecordingBattleshipView.Call.REVEAL_SHIPS, view.getCall(end + 1));
+    assertNotNull(view.getRevealedShips());
+    assertEquals(RecordingBattleshipView.Call.DISABLE_GRID, view.getCall(end + 2));
+  }
+
+  @Test
+  public void testClickBeforeGameStartsIsHeldBack() {
+    BattleshipModel unstarted = new BattleshipModelImpl();
+    RecordingBattleshipView waiting = new RecordingBattleshipView(16);
+    SwingBattleshipController early = new SwingBattleshipController(unstarted, waiting);
+
+    driver.click(early, 0, 0);
+
+    assertEquals(1, waiting.size());
+    assertEquals(RecordingBattleshipView.Call.UPDATE_STATUS, waiting.getCall(0));
+    assertEquals(0, unstarted.getGuessCount());
+
+    early.playGame();
+    driver.click(early, 0, 0);
+    assertEquals(1, unstarted.getGuessCount());
+  }
+
+  @Test
+  public void testGameStartedBeforeTheViewIsAttached() {
+    BattleshipModel early = new BattleshipModelImpl();
+    SwingBattleshipController detached = new SwingBattleshipController(early);
+    detached.playGame();
+    RecordingBattleshipView later = new RecordingBattleshipView(16);
+    detached.attachView(later);
+
+    assertSame(detached, later.getGridButtonListener());
+    driver.click(detached, 2, 2);
+    assertEquals(1, early.getGuessCount());
+    assertEquals(RecordingBattleshipView.Call.UPDATE_CELL, later.getCall(0));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAttachingASecondViewThrows() {
+    controller.attachView(new RecordingBattleshipView(16));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRemainingMovesOfCellUpdateThrows() {
+    driver.click(controller, 0, 0);
+    view.getRemainingMoves(0);
+  }
+
+  @Test
+  public void testRingBufferKeepsMostRecentCalls() {
+    RecordingBattleshipView small = new RecordingBattleshipView(3);
+    assertEquals(0, small.size());
+    small.updateStatus("one");
+    small.updateStatus("two");
+    small.updateStatus("three");
+    small.updateStatus("four");
+    small.updateStatus("five");
+
+    assertEquals(5, small.getRecordedCount());
+    assertEquals(4, small.size());
+    assertEquals("two", small.getMessage(0));
+    assertEquals("five", small.getMessage(3));
+  }
+}